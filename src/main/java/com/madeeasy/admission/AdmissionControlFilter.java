@@ -0,0 +1,170 @@
+package com.madeeasy.admission;
+
+import com.madeeasy.dto.response.AdmissionStatsResponseDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control in front of every API that uses the database, i.e. all of {@code /api/**} except
+ * the admission stats themselves.
+ * <p>
+ * Every caller, identified by the authenticated principal or else the remote address, has a token
+ * bucket; a caller over its rate gets {@code 429 Too Many Requests}. Request headers are never used to
+ * identify the caller, since a client could pick a fresh bucket for every request. Admitted requests then
+ * need a permit of their {@link AdmissionLane lane}. Bookings and other writes have a lane of their
+ * own, so virtual threads piling up on availability scans can't starve them, and scans don't wait
+ * at all while bookings are queued. A request that can't get a permit in time is shed with
+ * {@code 503 Service Unavailable}. Both rejections carry a {@code Retry-After} header.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SCAN_PATHS = Set.of(
+            "/api/meetings/free-slots",
+            "/api/meetings/optimal-slots",
+            "/api/meetings/heatmap",
+            "/api/meetings/conflicts");
+    private static final int BUCKET_CLEANUP_INTERVAL = 4096;
+
+    private final AdmissionProperties properties;
+    private final Map<AdmissionLane, LaneLimiter> limiters = new EnumMap<>(AdmissionLane.class);
+    private final Map<AdmissionLane, LongAdder> rateLimited = new EnumMap<>(AdmissionLane.class);
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public AdmissionControlFilter(AdmissionProperties properties) {
+        this.properties = properties;
+        limiters.put(AdmissionLane.BOOKING, new LaneLimiter(AdmissionLane.BOOKING, properties.getBooking()));
+        limiters.put(AdmissionLane.SCAN, new LaneLimiter(AdmissionLane.SCAN, properties.getScan()));
+        limiters.put(AdmissionLane.READ, new LaneLimiter(AdmissionLane.READ, properties.getRead()));
+        for (AdmissionLane lane : AdmissionLane.values()) {
+            rateLimited.put(lane, new LongAdder());
+        }
+    }
+
+    // Only the initial dispatch of a calendar subscription is admitted; the open stream holds no permit
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return !properties.isEnabled() || !path.startsWith("/api/") || path.startsWith("/api/admission/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdmissionLane lane = laneOf(request.getMethod(), pathOf(request));
+
+        long waitNanos = takeToken(callerOf(request));
+        if (waitNanos > 0) {
+            rateLimited.get(lane).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded, retry later.");
+            return;
+        }
+
+        // Scans give way as soon as bookings have to wait
+        LaneLimiter limiter = limiters.get(lane);
+        boolean mayWait = lane != AdmissionLane.SCAN || limiters.get(AdmissionLane.BOOKING).queued() == 0;
+        boolean admitted;
+        try {
+            admitted = limiter.acquire(mayWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                    "Server is busy, retry later.");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    /**
+     * @return the current limits, load and rejection counts of every lane
+     */
+    public List<AdmissionStatsResponseDTO> getStats() {
+        return Arrays.stream(AdmissionLane.values())
+                .map(lane -> {
+                    LaneLimiter limiter = limiters.get(lane);
+                    return AdmissionStatsResponseDTO.builder()
+                            .lane(lane)
+                            .maxConcurrent(limiter.maxConcurrent())
+                            .inFlight(limiter.inFlight())
+                            .queued(limiter.queued())
+                            .admitted(limiter.admitted())
+                            .shed(limiter.shed())
+                            .rateLimited(rateLimited.get(lane).sum())
+                            .build();
+                })
+                .toList();
+    }
+
+    static AdmissionLane laneOf(String method, String path) {
+        if (SCAN_PATHS.contains(path)) {
+            return AdmissionLane.SCAN;
+        }
+        return HttpMethod.GET.matches(method) ? AdmissionLane.READ : AdmissionLane.BOOKING;
+    }
+
+    /**
+     * @return {@code 0} if the caller may proceed, otherwise the nanoseconds until it may retry
+     */
+    private long takeToken(String caller) {
+        if (properties.getCallerRatePerSecond() <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (requestCount.incrementAndGet() % BUCKET_CLEANUP_INTERVAL == 0) {
+            // A bucket that had time to fill up again is no different from a new one
+            buckets.values().removeIf(bucket -> now - bucket.lastRequestNanos() > bucket.refillNanos());
+        }
+        return buckets.computeIfAbsent(caller,
+                        key -> new TokenBucket(properties.getCallerBurst(), properties.getCallerRatePerSecond(), now))
+                .tryTake(now);
+    }
+
+    static String callerOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null
+                ? "principal:" + principal.getName()
+                : "address:" + request.getRemoteAddr();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
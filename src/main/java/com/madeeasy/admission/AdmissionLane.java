@@ -0,0 +1,19 @@
+package com.madeeasy.admission;
+
+/**
+ * Requests are admitted per lane, so one kind of traffic can't take the capacity of another.
+ */
+public enum AdmissionLane {
+    /**
+     * Bookings, reschedules, cancellations and other writes. Never queued behind scans.
+     */
+    BOOKING,
+    /**
+     * Expensive availability searches over many calendars, shed first under load.
+     */
+    SCAN,
+    /**
+     * Cheap lookups.
+     */
+    READ
+}
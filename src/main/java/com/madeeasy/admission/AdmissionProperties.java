@@ -0,0 +1,53 @@
+package com.madeeasy.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Limits of the admission filter, bound from {@code app.admission.*}.
+ * <p>
+ * Each admitted request holds a database connection, and a scan may take a second one to load
+ * working hours from the primary. The {@code maxConcurrent} of all lanes plus that of the scan lane
+ * must therefore not exceed the connection pool size. The defaults add up to 24 + 4, which is the
+ * pool size set in {@code application.yaml}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private Lane booking = new Lane(16, 200, Duration.ofSeconds(2));
+    private Lane scan = new Lane(4, 16, Duration.ofMillis(100));
+    private Lane read = new Lane(4, 100, Duration.ofMillis(500));
+
+    /**
+     * Sustained requests per second per caller.
+     */
+    private double callerRatePerSecond = 20;
+
+    /**
+     * Requests a caller may send in a burst above the sustained rate.
+     */
+    private int callerBurst = 40;
+
+    @Data
+    public static class Lane {
+        private int maxConcurrent;
+        private int maxQueue;
+        private Duration maxWait;
+
+        public Lane() {
+        }
+
+        public Lane(int maxConcurrent, int maxQueue, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+        }
+    }
+}
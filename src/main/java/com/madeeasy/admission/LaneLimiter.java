@@ -0,0 +1,82 @@
+package com.madeeasy.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds the concurrent requests of one lane. A request that finds no free permit waits in a
+ * bounded queue for at most the lane's maximum wait; when the queue is full it is shed right away.
+ */
+class LaneLimiter {
+
+    private final AdmissionLane lane;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    LaneLimiter(AdmissionLane lane, AdmissionProperties.Lane limits) {
+        this.lane = lane;
+        this.maxConcurrent = limits.getMaxConcurrent();
+        this.maxQueue = limits.getMaxQueue();
+        this.maxWaitNanos = limits.getMaxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Take a permit, waiting for one if {@code mayWait} and the queue has room.
+     *
+     * @return whether the request was admitted; {@link #release()} must follow if so
+     */
+    boolean acquire(boolean mayWait) throws InterruptedException {
+        if (permits.tryAcquire()) {
+            admitted.increment();
+            return true;
+        }
+        if (mayWait) {
+            try {
+                if (queued.incrementAndGet() <= maxQueue && permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    admitted.increment();
+                    return true;
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+        shed.increment();
+        return false;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    AdmissionLane lane() {
+        return lane;
+    }
+
+    int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    long admitted() {
+        return admitted.sum();
+    }
+
+    long shed() {
+        return shed.sum();
+    }
+}
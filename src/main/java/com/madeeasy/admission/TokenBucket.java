@@ -0,0 +1,52 @@
+package com.madeeasy.admission;
+
+/**
+ * Classic token bucket: holds up to {@code capacity} tokens and refills continuously at
+ * {@code ratePerSecond}. Each request takes one token.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastRequestNanos;
+
+    TokenBucket(double capacity, double ratePerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastRequestNanos = nowNanos;
+    }
+
+    /**
+     * Take a token if there is one.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    synchronized long tryTake(long nowNanos) {
+        lastRequestNanos = nowNanos;
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * @return nanoseconds an empty bucket takes to fill up again
+     */
+    long refillNanos() {
+        return (long) Math.ceil(capacity / tokensPerNano);
+    }
+
+    synchronized long lastRequestNanos() {
+        return lastRequestNanos;
+    }
+}
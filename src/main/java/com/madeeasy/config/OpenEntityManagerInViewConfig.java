@@ -0,0 +1,32 @@
+package com.madeeasy.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open entity manager in view for every request except calendar subscriptions.
+ * <p>
+ * A subscription is an async request that stays open until its emitter times out. With an entity
+ * manager bound to it, the connection of its first query would be held that long, so a few dozen
+ * subscribers would take the whole pool. Registering the interceptor here replaces the one Spring
+ * Boot registers for all paths.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    public static final String SUBSCRIBE_PATH = "/api/calendar/subscribe";
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(SUBSCRIBE_PATH);
+    }
+}
@@ -0,0 +1,74 @@
+package com.madeeasy.config;
+
+import com.madeeasy.event.CalendarChangedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes for organizers: after an organizer books, moves or cancels a meeting, their
+ * requests read from the primary until the replica has had time to catch up.
+ * <p>
+ * The caller is identified by the {@code X-Employee-Id} header. Requests without it, or from
+ * employees without a recent change, read from the replica as usual.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    public static final String EMPLOYEE_ID_HEADER = "X-Employee-Id";
+
+    private final long windowNanos;
+    private final Map<Long, Long> primaryUntilByEmployeeId = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        if (event.organizerId() != null) {
+            primaryUntilByEmployeeId.put(event.organizerId(), System.nanoTime() + windowNanos);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String employeeId = request.getHeader(EMPLOYEE_ID_HEADER);
+        if (employeeId != null && wroteRecently(employeeId)) {
+            ReplicaRoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.clearForcedPrimary();
+    }
+
+    private boolean wroteRecently(String employeeId) {
+        Long id;
+        try {
+            id = Long.valueOf(employeeId.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        Long primaryUntil = primaryUntilByEmployeeId.get(id);
+        if (primaryUntil == null) {
+            return false;
+        }
+        if (primaryUntil - System.nanoTime() > 0) {
+            return true;
+        }
+        primaryUntilByEmployeeId.remove(id, primaryUntil);
+        return false;
+    }
+}
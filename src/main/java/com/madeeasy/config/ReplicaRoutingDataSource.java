@@ -0,0 +1,58 @@
+package com.madeeasy.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * The routing key is only known once the transaction has started, so the data source must be wrapped
+ * in a {@link LazyConnectionDataSourceProxy}, which fetches the physical connection on the first
+ * statement; {@link #create(DataSource, DataSource)} does that. Reads that must see the caller's own
+ * recent writes can be pinned to the primary with {@link #forcePrimary()}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return a data source routing between {@code primary} and {@code replica}
+     */
+    public static DataSource create(DataSource primary, DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    /**
+     * Route every transaction started on this thread to the primary until {@link #clearForcedPrimary()}.
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearForcedPrimary() {
+        PRIMARY_FORCED.remove();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (PRIMARY_FORCED.get() == null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,25 @@
+package com.madeeasy.controller;
+
+import com.madeeasy.admission.AdmissionControlFilter;
+import com.madeeasy.dto.response.AdmissionStatsResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/admission")
+public class AdmissionController {
+
+    private final AdmissionControlFilter admissionControlFilter;
+
+    @GetMapping(path = "/stats")
+    public ResponseEntity<?> getStats() {
+        List<AdmissionStatsResponseDTO> stats = admissionControlFilter.getStats();
+        return ResponseEntity.ok(stats);
+    }
+}
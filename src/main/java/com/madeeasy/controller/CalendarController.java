@@ -0,0 +1,35 @@
+package com.madeeasy.controller;
+
+import com.madeeasy.dto.response.CalendarSyncResponseDTO;
+import com.madeeasy.service.CalendarSubscriptionService;
+import com.madeeasy.service.CalendarSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/calendar")
+public class CalendarController {
+
+    private final CalendarSyncService calendarSyncService;
+    private final CalendarSubscriptionService calendarSubscriptionService;
+
+    @GetMapping(path = "/sync/{employeeId}")
+    public ResponseEntity<?> syncCalendar(@PathVariable Long employeeId,
+                                          @RequestParam(defaultValue = "0") long since,
+                                          @RequestParam(defaultValue = "500") int limit) {
+        CalendarSyncResponseDTO changes = calendarSyncService.getChangesSince(employeeId, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(path = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam List<Long> employeeIds) {
+        SseEmitter emitter = calendarSubscriptionService.subscribe(employeeIds);
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,13 +1,21 @@
 package com.madeeasy.controller;
 
 
+import com.madeeasy.dto.request.EmployeeImportFormat;
 import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.request.WorkingHoursRequestDTO;
+import com.madeeasy.dto.response.EmployeeImportResponseDTO;
 import com.madeeasy.dto.response.EmployeeResponseDTO;
+import com.madeeasy.service.EmployeeImportService;
 import com.madeeasy.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +24,7 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
 
     @PostMapping(path = "/create")
     public ResponseEntity<?> createEmployee(@RequestBody EmployeeRequestDTO employee) {
@@ -29,10 +38,30 @@ public class EmployeeController {
         return ResponseEntity.ok(employee);
     }
 
+    @GetMapping(path = "/by-email")
+    public ResponseEntity<?> getEmployeeByEmail(@RequestParam String email) {
+        EmployeeResponseDTO employee = employeeService.getEmployeeByEmail(email);
+        return ResponseEntity.ok(employee);
+    }
+
+    @PostMapping(path = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                             InputStream body) throws IOException {
+        EmployeeImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? EmployeeImportFormat.NDJSON : EmployeeImportFormat.CSV;
+        EmployeeImportResponseDTO result = employeeImportService.importEmployees(body, format);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping
     public ResponseEntity<?> getAllEmployees() {
         List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
         return ResponseEntity.ok(employees);
     }
-}
 
+    @PutMapping(path = "/{id}/working-hours")
+    public ResponseEntity<?> updateWorkingHours(@PathVariable Long id, @RequestBody WorkingHoursRequestDTO workingHours) {
+        EmployeeResponseDTO employee = employeeService.updateWorkingHours(id, workingHours);
+        return ResponseEntity.ok(employee);
+    }
+}
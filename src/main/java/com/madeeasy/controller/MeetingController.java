@@ -1,16 +1,22 @@
 package com.madeeasy.controller;
 
+import com.madeeasy.dto.request.GroupScheduleRequestDTO;
 import com.madeeasy.dto.request.MeetingRequestDTO;
+import com.madeeasy.dto.request.RescheduleRequestDTO;
+import com.madeeasy.dto.response.AvailabilityHeatmapResponseDTO;
 import com.madeeasy.dto.response.CalendarSlotResponseDTO;
 import com.madeeasy.dto.response.ConflictResponseDTO;
 import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.dto.response.SlotSuggestionResponseDTO;
 import com.madeeasy.entity.CalendarSlot;
 import com.madeeasy.entity.Employee;
+import com.madeeasy.service.AvailabilityHeatmapService;
 import com.madeeasy.service.MeetingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,6 +26,7 @@ import java.util.List;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final AvailabilityHeatmapService availabilityHeatmapService;
 
     @PostMapping(path = "/book")
     public ResponseEntity<?> bookMeeting(@RequestBody MeetingRequestDTO request) {
@@ -27,6 +34,18 @@ public class MeetingController {
         return ResponseEntity.ok(meeting);
     }
 
+    @DeleteMapping(path = "/{id}")
+    public ResponseEntity<?> cancelMeeting(@PathVariable Long id) {
+        meetingService.cancelMeeting(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping(path = "/{id}/reschedule")
+    public ResponseEntity<?> rescheduleMeeting(@PathVariable Long id, @RequestBody RescheduleRequestDTO request) {
+        MeetingResponseDTO meeting = meetingService.rescheduleMeeting(id, request);
+        return ResponseEntity.ok(meeting);
+    }
+
     @GetMapping(path = "/free-slots")
     public ResponseEntity<?> getFreeSlots(
             @RequestParam List<Long> employeeIds,
@@ -36,6 +55,21 @@ public class MeetingController {
         return ResponseEntity.ok(slots);
     }
 
+    @PostMapping(path = "/optimal-slots")
+    public ResponseEntity<?> getOptimalSlots(@RequestBody GroupScheduleRequestDTO request) {
+        List<SlotSuggestionResponseDTO> slots = meetingService.findOptimalSlots(request);
+        return ResponseEntity.ok(slots);
+    }
+
+    @GetMapping(path = "/heatmap")
+    public ResponseEntity<?> getHeatmap(
+            @RequestParam List<Long> employeeIds,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) Integer bucketMinutes) {
+        AvailabilityHeatmapResponseDTO heatmap = availabilityHeatmapService.getHeatmap(employeeIds, from, to, bucketMinutes);
+        return ResponseEntity.ok(heatmap);
+    }
 
     @PostMapping("/conflicts")
     public ResponseEntity<ConflictResponseDTO> getConflictedParticipants(@RequestParam LocalDateTime requestedStartTime,
@@ -0,0 +1,50 @@
+package com.madeeasy.controller;
+
+import com.madeeasy.dto.request.ResourceRequestDTO;
+import com.madeeasy.dto.response.ResourceResponseDTO;
+import com.madeeasy.entity.ResourceType;
+import com.madeeasy.service.ResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/resources")
+public class ResourceController {
+
+    private final ResourceService resourceService;
+
+    @PostMapping(path = "/create")
+    public ResponseEntity<?> createResource(@RequestBody ResourceRequestDTO resource) {
+        ResourceResponseDTO savedResource = resourceService.createResource(resource);
+        return ResponseEntity.ok(savedResource);
+    }
+
+    @GetMapping(path = "/{id}")
+    public ResponseEntity<?> getResourceById(@PathVariable Long id) {
+        ResourceResponseDTO resource = resourceService.getResourceById(id);
+        return ResponseEntity.ok(resource);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getAllResources() {
+        List<ResourceResponseDTO> resources = resourceService.getAllResources();
+        return ResponseEntity.ok(resources);
+    }
+
+    @GetMapping(path = "/free")
+    public ResponseEntity<?> getFreeResources(
+            @RequestParam ResourceType type,
+            @RequestParam(defaultValue = "1") int minCapacity,
+            @RequestParam LocalDateTime startTime,
+            @RequestParam int durationMinutes,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ResourceResponseDTO> resources = resourceService.findFreeResources(
+                type, minCapacity, startTime, durationMinutes, limit);
+        return ResponseEntity.ok(resources);
+    }
+}
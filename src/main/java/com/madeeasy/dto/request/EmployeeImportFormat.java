@@ -0,0 +1,15 @@
+package com.madeeasy.dto.request;
+
+/**
+ * Formats accepted by the bulk employee import.
+ */
+public enum EmployeeImportFormat {
+    /**
+     * Comma separated values with a header line naming the {@code name} and {@code email} columns.
+     */
+    CSV,
+    /**
+     * One JSON object per line, in the format of {@link EmployeeRequestDTO}.
+     */
+    NDJSON
+}
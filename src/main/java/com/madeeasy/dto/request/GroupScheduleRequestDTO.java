@@ -0,0 +1,23 @@
+package com.madeeasy.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GroupScheduleRequestDTO {
+    private List<Long> requiredIds;
+    private List<Long> optionalIds;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private int durationMinutes;
+    private Integer stepMinutes;
+    private Integer topK;
+}
@@ -15,4 +15,5 @@ public class MeetingRequestDTO {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private List<Long> participantIds;
+    private List<Long> resourceIds;
 }
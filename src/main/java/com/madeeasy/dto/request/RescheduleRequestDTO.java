@@ -0,0 +1,17 @@
+package com.madeeasy.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RescheduleRequestDTO {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,15 @@
+package com.madeeasy.dto.request;
+
+import com.madeeasy.entity.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResourceRequestDTO {
+    private String name;
+    private ResourceType type;
+    private int capacity;
+}
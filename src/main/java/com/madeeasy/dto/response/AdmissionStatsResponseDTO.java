@@ -0,0 +1,21 @@
+package com.madeeasy.dto.response;
+
+import com.madeeasy.admission.AdmissionLane;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionStatsResponseDTO {
+    private AdmissionLane lane;
+    private int maxConcurrent;
+    private int inFlight;
+    private int queued;
+    private long admitted;
+    private long shed;  // rejected with 503 because the lane was full
+    private long rateLimited;  // rejected with 429 because the caller was over its rate
+}
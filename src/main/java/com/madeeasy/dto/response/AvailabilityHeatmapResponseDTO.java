@@ -0,0 +1,21 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityHeatmapResponseDTO {
+    private List<Long> employeeIds;
+    private LocalDate from;
+    private LocalDate to;
+    private int bucketMinutes;
+    private List<HeatmapDayResponseDTO> days;
+}
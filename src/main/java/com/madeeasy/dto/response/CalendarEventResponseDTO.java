@@ -0,0 +1,24 @@
+package com.madeeasy.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.madeeasy.entity.CalendarChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalendarEventResponseDTO {
+    private Long meetingId;
+    private CalendarChangeType changeType;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Map<Long, Long> syncTokens;  // employeeId -> calendar sequence, for /api/calendar/sync
+}
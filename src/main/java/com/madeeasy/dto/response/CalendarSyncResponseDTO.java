@@ -0,0 +1,22 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarSyncResponseDTO {
+    private Long employeeId;
+    private long syncToken;  // pass back as "since" on the next sync
+    private boolean hasMore;  // more changes are waiting, sync again right away
+    private List<MeetingResponseDTO> meetings;
+    private List<CalendarSlotResponseDTO> calendarSlots;
+    private List<Long> cancelledMeetingIds;
+    private List<Long> deletedCalendarSlotIds;
+}
@@ -0,0 +1,20 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeImportResponseDTO {
+    private long received;
+    private long imported;
+    private long duplicates;  // already in the system or earlier in the same file
+    private long invalid;
+    private List<String> errors;  // the first few invalid lines
+}
@@ -17,5 +17,6 @@ public class EmployeeResponseDTO {
     private Long id;
     private String name;
     private String email;
+    private WorkingHoursResponseDTO workingHours;
     private List<CalendarSlotResponseDTO> calendarSlots;
 }
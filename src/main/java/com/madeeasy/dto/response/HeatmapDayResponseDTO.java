@@ -0,0 +1,17 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class HeatmapDayResponseDTO {
+    private LocalDate date;
+    private int[] busyCounts;  // employees busy during each bucket, starting at midnight
+}
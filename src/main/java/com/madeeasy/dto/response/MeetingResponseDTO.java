@@ -14,4 +14,5 @@ public class MeetingResponseDTO {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private List<EmployeeResponseDTO> participants;
+    private List<ResourceResponseDTO> resources;
 }
@@ -0,0 +1,18 @@
+package com.madeeasy.dto.response;
+
+import com.madeeasy.entity.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResourceResponseDTO {
+    private Long id;
+    private String name;
+    private ResourceType type;
+    private int capacity;
+}
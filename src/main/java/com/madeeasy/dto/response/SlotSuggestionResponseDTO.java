@@ -0,0 +1,19 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotSuggestionResponseDTO {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private int availableOptionalCount;
+    private int totalOptionalCount;
+}
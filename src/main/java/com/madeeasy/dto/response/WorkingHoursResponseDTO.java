@@ -0,0 +1,21 @@
+package com.madeeasy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkingHoursResponseDTO {
+    private String timeZone;
+    private LocalTime workdayStart;
+    private LocalTime workdayEnd;
+    private Set<DayOfWeek> workingDays;
+}
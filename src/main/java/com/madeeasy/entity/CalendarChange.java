@@ -0,0 +1,42 @@
+package com.madeeasy.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of an employee's calendar change log. {@code sequence} is the employee's
+ * {@link Employee#getCalendarSequence() calendar sequence} at the time of the change and doubles
+ * as the sync token handed to clients.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "calendar_changes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_calendar_changes_employee_sequence",
+                columnNames = {"employee_id", "sequence"}))
+public class CalendarChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "sequence", nullable = false)
+    private long sequence;
+
+    private Long meetingId;
+    private Long calendarSlotId;
+
+    @Enumerated(EnumType.STRING)
+    private CalendarChangeType changeType;
+
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,7 @@
+package com.madeeasy.entity;
+
+public enum CalendarChangeType {
+    CREATED,
+    UPDATED,
+    CANCELLED
+}
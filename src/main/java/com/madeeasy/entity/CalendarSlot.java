@@ -3,6 +3,7 @@ package com.madeeasy.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDateTime;
 
@@ -22,6 +23,12 @@ public class CalendarSlot {
     @ToString.Exclude  // Exclude this field from the toString() method
     private Employee employee;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonIgnore  // The meeting is serialized on its own, not through its slots
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude  // Don't initialize the lazy meeting when comparing slots
+    private Meeting meeting;
+
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private boolean isAvailable;
@@ -11,6 +11,7 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(name = "employee", uniqueConstraints = @UniqueConstraint(name = "uk_employee_email", columnNames = "email"))
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +19,13 @@ public class Employee {
     private String name;
     private String email;
 
+    // Bumped once per calendar change, only through EmployeeRepository.incrementCalendarSequence
+    @Column(name = "calendar_sequence", nullable = false, updatable = false)
+    private long calendarSequence;
+
+    @Embedded
+    private WorkingHours workingHours;  // null when the employee is always available
+
     @OneToMany(mappedBy = "employee")
     @JsonManagedReference  // Indicates that this is the parent side of the relationship
     @ToString.Exclude  // Exclude this field from the toString() method
@@ -19,6 +19,7 @@ public class Meeting {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String topic;
+    private Long organizerId;  // the admin who booked the meeting
 
     @ManyToMany(fetch = FetchType.LAZY) // Lazy loading for participants
     @JoinTable(name = "meeting_participants",
@@ -27,6 +28,13 @@ public class Meeting {
     @ToString.Exclude // Exclude from toString to prevent recursion
     private List<Employee> participants;
 
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "meeting_resources",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            inverseJoinColumns = @JoinColumn(name = "resource_id"))
+    @ToString.Exclude
+    private List<Resource> resources;
+
     private LocalDateTime startTime;
     private LocalDateTime endTime;
 }
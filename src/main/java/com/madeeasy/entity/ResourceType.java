@@ -0,0 +1,6 @@
+package com.madeeasy.entity;
+
+public enum ResourceType {
+    ROOM,
+    EQUIPMENT
+}
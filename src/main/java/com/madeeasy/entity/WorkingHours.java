@@ -0,0 +1,38 @@
+package com.madeeasy.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * When an employee works, in the employee's own time zone. A workday that ends at or before its
+ * start runs past midnight.
+ */
+@Data
+@Builder
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkingHours {
+
+    @Column(name = "time_zone")
+    private String timeZone;  // IANA zone id, e.g. Europe/Berlin
+
+    @Column(name = "workday_start")
+    private LocalTime workdayStart;
+
+    @Column(name = "workday_end")
+    private LocalTime workdayEnd;
+
+    @Column(name = "working_days")
+    @Convert(converter = DayOfWeekSetConverter.class)
+    private Set<DayOfWeek> workingDays;
+}
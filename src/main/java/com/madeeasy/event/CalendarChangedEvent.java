@@ -0,0 +1,25 @@
+package com.madeeasy.event;
+
+import com.madeeasy.entity.CalendarChangeType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Published when a meeting is booked, rescheduled or cancelled. Listeners that act on committed
+ * state should use {@code @TransactionalEventListener}.
+ *
+ * @param meetingId            the meeting that changed
+ * @param changeType           what happened to the meeting
+ * @param organizerId          the employee who made the change
+ * @param startTime            the meeting start, after the change
+ * @param endTime              the meeting end, after the change
+ * @param sequenceByEmployeeId the new calendar sequence of every affected employee
+ */
+public record CalendarChangedEvent(Long meetingId,
+                                   CalendarChangeType changeType,
+                                   Long organizerId,
+                                   LocalDateTime startTime,
+                                   LocalDateTime endTime,
+                                   Map<Long, Long> sequenceByEmployeeId) {
+}
@@ -0,0 +1,12 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.CalendarChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CalendarChangeRepository extends JpaRepository<CalendarChange, Long> {
+    List<CalendarChange> findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(Long employeeId, long sequence,
+                                                                                  Pageable pageable);
+}
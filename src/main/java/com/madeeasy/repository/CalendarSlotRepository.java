@@ -3,10 +3,14 @@ package com.madeeasy.repository;
 
 import com.madeeasy.entity.CalendarSlot;
 import com.madeeasy.entity.Employee;
+import com.madeeasy.scheduling.BusySlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CalendarSlotRepository extends JpaRepository<CalendarSlot, Long> {
@@ -19,4 +23,44 @@ public interface CalendarSlotRepository extends JpaRepository<CalendarSlot, Long
     // Find all calendar slots for a given employee
     @Query("SELECT cs FROM CalendarSlot cs WHERE cs.employee.id = :employeeId")
     List<CalendarSlot> findByEmployeeId(Long employeeId); // Query using employeeId
-}
\ No newline at end of file
+
+    @Query("SELECT cs FROM CalendarSlot cs WHERE cs.employee.id = :employeeId AND cs.meeting.id IN :meetingIds")
+    List<CalendarSlot> findByEmployeeIdAndMeetingIds(@Param("employeeId") Long employeeId,
+                                                     @Param("meetingIds") Collection<Long> meetingIds);
+
+    @Query("SELECT cs FROM CalendarSlot cs JOIN FETCH cs.employee WHERE cs.meeting.id = :meetingId")
+    List<CalendarSlot> findByMeetingId(@Param("meetingId") Long meetingId);
+
+    // Employees with a slot touching the time range, other than the slot of the given meeting
+    @Query("SELECT DISTINCT cs.employee.id FROM CalendarSlot cs LEFT JOIN cs.meeting m " +
+            "WHERE cs.employee.id IN :employeeIds " +
+            "AND (m IS NULL OR m.id <> :meetingId) " +
+            "AND cs.startTime <= :endTime " +
+            "AND cs.endTime >= :startTime")
+    List<Long> findConflictingEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds,
+                                          @Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime,
+                                          @Param("meetingId") Long meetingId);
+
+    // Clears the persistence context, so slots read afterwards carry the new times
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CalendarSlot cs SET cs.startTime = :startTime, cs.endTime = :endTime WHERE cs.meeting.id = :meetingId")
+    int updateTimesByMeetingId(@Param("meetingId") Long meetingId,
+                               @Param("startTime") LocalDateTime startTime,
+                               @Param("endTime") LocalDateTime endTime);
+
+    @Modifying
+    @Query("DELETE FROM CalendarSlot cs WHERE cs.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+
+    // Booked slots of the given employees overlapping the window, without loading the entities
+    @Query("SELECT new com.madeeasy.scheduling.BusySlot(cs.employee.id, cs.startTime, cs.endTime) " +
+            "FROM CalendarSlot cs " +
+            "WHERE cs.employee.id IN :employeeIds " +
+            "AND cs.isAvailable = false " +
+            "AND cs.startTime < :windowEnd " +
+            "AND cs.endTime > :windowStart")
+    List<BusySlot> findBusySlots(@Param("employeeIds") Collection<Long> employeeIds,
+                                 @Param("windowStart") LocalDateTime windowStart,
+                                 @Param("windowEnd") LocalDateTime windowEnd);
+}
@@ -1,8 +1,38 @@
 package com.madeeasy.repository;
 
 import com.madeeasy.entity.Employee;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     boolean existsByEmail(String email);
+
+    Optional<Employee> findByEmail(String email);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Locks the employees for the rest of the booking transaction, ordered by id to avoid deadlocks
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Employee> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Also row-locks the employees until commit, so sequences are committed in order
+    @Modifying
+    @Query(value = "UPDATE employee SET calendar_sequence = calendar_sequence + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int incrementCalendarSequence(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.id, e.calendarSequence FROM Employee e WHERE e.id IN :ids")
+    List<Object[]> findCalendarSequences(@Param("ids") Collection<Long> ids);
 }
@@ -3,11 +3,13 @@ package com.madeeasy.repository;
 
 import com.madeeasy.entity.Employee;
 import com.madeeasy.entity.Meeting;
+import com.madeeasy.scheduling.ResourceBooking;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
@@ -37,4 +39,31 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
                                            @Param("requestedStartTime") LocalDateTime requestedStartTime,
                                            @Param("requestedEndTime") LocalDateTime requestedEndTime);
 
+    // Strict overlap: a room can be handed over back to back, unlike a participant's calendar,
+    // whose conflict check also rejects meetings that only touch
+    @Query("SELECT DISTINCT r.id FROM Meeting m JOIN m.resources r " +
+            "WHERE r.id IN :resourceIds " +
+            "AND m.startTime < :requestedEndTime " +
+            "AND m.endTime > :requestedStartTime")
+    List<Long> findBookedResourceIds(@Param("resourceIds") Collection<Long> resourceIds,
+                                     @Param("requestedStartTime") LocalDateTime requestedStartTime,
+                                     @Param("requestedEndTime") LocalDateTime requestedEndTime);
+
+    @Query("SELECT DISTINCT r.id FROM Meeting m JOIN m.resources r " +
+            "WHERE r.id IN :resourceIds " +
+            "AND m.id <> :meetingId " +
+            "AND m.startTime < :requestedEndTime " +
+            "AND m.endTime > :requestedStartTime")
+    List<Long> findBookedResourceIdsExcludingMeeting(@Param("resourceIds") Collection<Long> resourceIds,
+                                                     @Param("requestedStartTime") LocalDateTime requestedStartTime,
+                                                     @Param("requestedEndTime") LocalDateTime requestedEndTime,
+                                                     @Param("meetingId") Long meetingId);
+
+    @Query("SELECT new com.madeeasy.scheduling.ResourceBooking(r.id, m.id, m.startTime, m.endTime) " +
+            "FROM Meeting m JOIN m.resources r")
+    List<ResourceBooking> findAllResourceBookings();
+
+    @Query("SELECT DISTINCT m FROM Meeting m LEFT JOIN FETCH m.participants WHERE m.id IN :ids")
+    List<Meeting> findAllWithParticipantsByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,19 @@
+package com.madeeasy.repository;
+
+import com.madeeasy.entity.Resource;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ResourceRepository extends JpaRepository<Resource, Long> {
+
+    // Locks the resources for the rest of the booking transaction, ordered by id to avoid deadlocks
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Resource r WHERE r.id IN :ids ORDER BY r.id")
+    List<Resource> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+}
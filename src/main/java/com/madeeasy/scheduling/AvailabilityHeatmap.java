@@ -0,0 +1,103 @@
+package com.madeeasy.scheduling;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Counts, for every bucket of every day in a range, how many employees of a team are busy.
+ * <p>
+ * An employee counts as busy in a bucket when any of their busy intervals overlaps it. Each
+ * employee's {@link BusyIntervals} are turned into ranges of bucket indexes, merged so an employee
+ * is never counted twice for the same bucket, and added to one difference array over all buckets
+ * in a single pass. Ranges are cut at day boundaries, so every day's prefix sum starts from zero
+ * and the days are summed up in parallel.
+ */
+public final class AvailabilityHeatmap {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private AvailabilityHeatmap() {
+    }
+
+    /**
+     * @param busyByEmployee the busy intervals of each team member
+     * @param fromMinute     start of the first day in epoch minutes
+     * @param days           number of days
+     * @param bucketMinutes  length of a bucket in minutes, must divide a day
+     * @return busy counts indexed by day, then bucket
+     */
+    public static int[][] busyCounts(Collection<BusyIntervals> busyByEmployee, int fromMinute, int days,
+                                     int bucketMinutes) {
+        if (bucketMinutes <= 0 || MINUTES_PER_DAY % bucketMinutes != 0) {
+            throw new IllegalArgumentException("Bucket minutes must divide a day.");
+        }
+        int bucketsPerDay = MINUTES_PER_DAY / bucketMinutes;
+        int bucketCount = days * bucketsPerDay;
+
+        int[] diff = new int[bucketCount];
+        for (BusyIntervals busy : busyByEmployee) {
+            addBusy(busy, fromMinute, bucketMinutes, bucketsPerDay, bucketCount, diff);
+        }
+
+        int[][] counts = new int[days][];
+        IntStream.range(0, days).parallel().forEach(day -> {
+            int[] row = new int[bucketsPerDay];
+            int offset = day * bucketsPerDay;
+            int running = 0;
+            for (int bucket = 0; bucket < bucketsPerDay; bucket++) {
+                running += diff[offset + bucket];
+                row[bucket] = running;
+            }
+            counts[day] = row;
+        });
+        return counts;
+    }
+
+    /**
+     * Add the buckets touched by one employee's busy intervals to the difference array. The intervals
+     * are sorted, so the bucket ranges come out sorted as well and are merged on the fly.
+     */
+    private static void addBusy(BusyIntervals busy, int fromMinute, int bucketMinutes, int bucketsPerDay,
+                                int bucketCount, int[] diff) {
+        int currentStart = -1;
+        int currentEnd = -1;
+        for (int i = 0; i < busy.size(); i++) {
+            long busyStart = (long) busy.start(i) - fromMinute;
+            long busyEnd = (long) busy.end(i) - fromMinute;
+
+            int first = (int) Math.max(Math.floorDiv(busyStart, bucketMinutes), 0);
+            int last = (int) Math.min(Math.ceilDiv(busyEnd, bucketMinutes), bucketCount);
+            if (first >= last) {
+                continue;
+            }
+            if (currentEnd >= 0 && first <= currentEnd) {
+                currentEnd = Math.max(currentEnd, last);
+            } else {
+                if (currentEnd >= 0) {
+                    addRange(currentStart, currentEnd, bucketsPerDay, diff);
+                }
+                currentStart = first;
+                currentEnd = last;
+            }
+        }
+        if (currentEnd >= 0) {
+            addRange(currentStart, currentEnd, bucketsPerDay, diff);
+        }
+    }
+
+    /**
+     * Add {@code [first, last)} to the difference array, cut into one range per day. A range ending
+     * on a day boundary needs no decrement, as the next day's prefix sum starts from zero.
+     */
+    private static void addRange(int first, int last, int bucketsPerDay, int[] diff) {
+        while (first < last) {
+            int dayEnd = (first / bucketsPerDay + 1) * bucketsPerDay;
+            diff[first]++;
+            if (last < dayEnd) {
+                diff[last]--;
+                return;
+            }
+            first = dayEnd;
+        }
+    }
+}
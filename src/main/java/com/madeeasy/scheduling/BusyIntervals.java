@@ -0,0 +1,121 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * The busy time of one calendar as sorted, non-overlapping {@code [start, end)} intervals in
+ * {@link EpochMinutes epoch minutes}, packed into two {@code int} arrays.
+ * <p>
+ * Because the intervals are merged, both arrays are sorted and an overlap check is a single binary
+ * search that allocates nothing.
+ */
+public final class BusyIntervals {
+
+    private static final BusyIntervals EMPTY = new BusyIntervals(new int[0], new int[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private BusyIntervals(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public static BusyIntervals empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * @return whether any busy interval overlaps {@code [start, end)}
+     */
+    public boolean overlaps(int start, int end) {
+        // Last interval starting before the end of the range; only that one can reach into it
+        int index = Arrays.binarySearch(starts, end);
+        index = index >= 0 ? index - 1 : -index - 2;
+        return index >= 0 && ends[index] > start;
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return overlaps(EpochMinutes.floor(start), EpochMinutes.ceil(end));
+    }
+
+    /**
+     * Collects intervals in any order and merges them on {@link #build()}.
+     */
+    public static final class Builder {
+
+        // start in the high and end in the low 32 bits, so sorting the longs sorts by start
+        private long[] packed = new long[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(int start, int end) {
+            if (start >= end) {
+                return this;
+            }
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = ((long) start << 32) | (end & 0xFFFFFFFFL);
+            return this;
+        }
+
+        public Builder add(LocalDateTime start, LocalDateTime end) {
+            return add(EpochMinutes.floor(start), EpochMinutes.ceil(end));
+        }
+
+        /**
+         * Add the parts of {@code intervals} that lie within {@code [from, to)}.
+         */
+        public Builder addAll(BusyIntervals intervals, int from, int to) {
+            // First interval ending after from; the ends are sorted as well
+            int index = Arrays.binarySearch(intervals.ends, from);
+            index = index >= 0 ? index + 1 : -index - 1;
+            for (; index < intervals.size() && intervals.starts[index] < to; index++) {
+                add(Math.max(intervals.starts[index], from), Math.min(intervals.ends[index], to));
+            }
+            return this;
+        }
+
+        public BusyIntervals build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            Arrays.sort(packed, 0, size);
+            int[] starts = new int[size];
+            int[] ends = new int[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int start = (int) (packed[i] >> 32);
+                int end = (int) packed[i];
+                if (count > 0 && start <= ends[count - 1]) {
+                    ends[count - 1] = Math.max(ends[count - 1], end);
+                } else {
+                    starts[count] = start;
+                    ends[count] = end;
+                    count++;
+                }
+            }
+            return new BusyIntervals(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
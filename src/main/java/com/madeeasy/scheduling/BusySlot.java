@@ -0,0 +1,10 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a booked calendar slot, used by the scheduling
+ * algorithms so they don't have to load full {@code CalendarSlot} entities.
+ */
+public record BusySlot(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,56 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversion between {@link LocalDateTime} and minutes since the epoch, the time representation of
+ * the scheduling core. Local times are treated as UTC, which keeps the arithmetic a plain subtraction;
+ * an {@code int} covers the years 0 to 6000. Times coming in through the API are checked against the
+ * narrower {@link #checkSupported(LocalDateTime) supported range}, which leaves room for durations and
+ * horizons to be added without overflow.
+ * <p>
+ * Start times round down and end times round up, so a range never shrinks in the conversion.
+ */
+public final class EpochMinutes {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    public static final LocalDateTime MIN_SUPPORTED = LocalDateTime.of(1, 1, 1, 0, 0);
+    public static final LocalDateTime MAX_SUPPORTED = LocalDateTime.of(5000, 1, 1, 0, 0);
+
+    private EpochMinutes() {
+    }
+
+    /**
+     * @return the minute containing {@code time}
+     */
+    public static int floor(LocalDateTime time) {
+        return Math.toIntExact(Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE));
+    }
+
+    /**
+     * @return the first minute boundary at or after {@code time}
+     */
+    public static int ceil(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (time.getNano() > 0) {
+            seconds++;
+        }
+        return Math.toIntExact(Math.ceilDiv(seconds, SECONDS_PER_MINUTE));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code time} is missing or outside the supported range
+     */
+    public static void checkSupported(LocalDateTime time) {
+        if (time == null || time.isBefore(MIN_SUPPORTED) || time.isAfter(MAX_SUPPORTED)) {
+            throw new IllegalArgumentException("Time " + time + " is outside the supported range "
+                    + MIN_SUPPORTED + " to " + MAX_SUPPORTED + ".");
+        }
+    }
+
+    public static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond((long) epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
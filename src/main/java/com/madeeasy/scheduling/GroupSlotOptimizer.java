@@ -0,0 +1,221 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Ranks candidate meeting start times for a group of required and optional attendees.
+ * <p>
+ * Candidates are the start times {@code windowStart + k * step} for which the whole meeting
+ * still fits in the window. The busy slots of each employee are merged into {@link BusyIntervals}
+ * in epoch minutes, every interval is turned into the range of candidate indexes it blocks, and
+ * the ranges are merged again (so an employee is never counted twice for the same candidate)
+ * and added to a difference array. Off hours of attendees with working hours count as busy.
+ * A single prefix sum then yields, for each candidate, how many required and optional attendees
+ * are busy. Ranking of the candidates is split across days and runs on the common fork/join pool.
+ */
+public final class GroupSlotOptimizer {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Best first: more free optional attendees, then earlier start.
+     */
+    static final Comparator<RankedSlot> BEST_FIRST = Comparator
+            .comparingInt(RankedSlot::freeOptionalCount).reversed()
+            .thenComparingInt(RankedSlot::candidateIndex);
+
+    private GroupSlotOptimizer() {
+    }
+
+    /**
+     * A candidate that every required attendee can make.
+     *
+     * @param candidateIndex    the candidate index, the start time is {@code windowStart + candidateIndex * step}
+     * @param freeOptionalCount number of optional attendees that are free for the whole meeting
+     */
+    public record RankedSlot(int candidateIndex, int freeOptionalCount) {
+    }
+
+    /**
+     * Find the best {@code topK} start times in the window, treating each attendee's off hours as busy.
+     *
+     * @param busySlots       booked slots of the attendees overlapping the window
+     * @param offHours        off hours of the attendees that have working hours, by employee id
+     * @param requiredIds     attendees that must be free
+     * @param optionalIds     attendees that should be free if possible
+     * @param windowStart     earliest start of the meeting
+     * @param windowEnd       latest end of the meeting
+     * @param durationMinutes length of the meeting in minutes
+     * @param stepMinutes     distance between two candidate start times in minutes
+     * @param topK            maximum number of slots to return
+     * @return the ranked slots, best first
+     */
+    public static List<RankedSlot> rank(Collection<BusySlot> busySlots,
+                                        Map<Long, BusyIntervals> offHours,
+                                        Set<Long> requiredIds,
+                                        Set<Long> optionalIds,
+                                        LocalDateTime windowStart,
+                                        LocalDateTime windowEnd,
+                                        int durationMinutes,
+                                        int stepMinutes,
+                                        int topK) {
+        int windowStartMinute = EpochMinutes.floor(windowStart);
+        long windowMinutes = (long) EpochMinutes.floor(windowEnd) - windowStartMinute;
+        if (topK <= 0 || windowMinutes < durationMinutes) {
+            return List.of();
+        }
+        int candidateCount = (int) ((windowMinutes - durationMinutes) / stepMinutes) + 1;
+
+        // Busy time per employee, merged so an employee is never counted twice for the same candidate
+        Map<Long, BusyIntervals.Builder> busyByEmployee = new HashMap<>();
+        for (BusySlot slot : busySlots) {
+            Long employeeId = slot.employeeId();
+            if (requiredIds.contains(employeeId) || optionalIds.contains(employeeId)) {
+                busyByEmployee.computeIfAbsent(employeeId, id -> BusyIntervals.builder())
+                        .add(slot.startTime(), slot.endTime());
+            }
+        }
+        int windowEndMinute = windowStartMinute + (int) windowMinutes;
+        offHours.forEach((employeeId, intervals) -> {
+            if (requiredIds.contains(employeeId) || optionalIds.contains(employeeId)) {
+                busyByEmployee.computeIfAbsent(employeeId, id -> BusyIntervals.builder())
+                        .addAll(intervals, windowStartMinute, windowEndMinute);
+            }
+        });
+
+        int[] requiredBusy = new int[candidateCount + 1];
+        int[] optionalBusy = new int[candidateCount + 1];
+        for (Map.Entry<Long, BusyIntervals.Builder> entry : busyByEmployee.entrySet()) {
+            int[] diff = requiredIds.contains(entry.getKey()) ? requiredBusy : optionalBusy;
+            addBlocked(entry.getValue().build(), windowStartMinute, durationMinutes, stepMinutes, candidateCount, diff);
+        }
+        for (int i = 1; i < candidateCount; i++) {
+            requiredBusy[i] += requiredBusy[i - 1];
+            optionalBusy[i] += optionalBusy[i - 1];
+        }
+
+        int optionalTotal = 0;
+        for (Long optionalId : optionalIds) {
+            if (!requiredIds.contains(optionalId)) {
+                optionalTotal++;
+            }
+        }
+        int candidatesPerDay = Math.max(1, MINUTES_PER_DAY / stepMinutes);
+
+        return ForkJoinPool.commonPool().invoke(new RankTask(
+                requiredBusy, optionalBusy, optionalTotal, topK, candidatesPerDay, 0, candidateCount));
+    }
+
+    /**
+     * Add the candidate ranges blocked by one employee's busy intervals to the difference array.
+     * The intervals are sorted, so the blocked ranges come out sorted as well and are merged on the fly.
+     */
+    private static void addBlocked(BusyIntervals busy, int windowStartMinute, int durationMinutes,
+                                   int stepMinutes, int candidateCount, int[] diff) {
+        int currentStart = -1;
+        int currentEnd = -1;
+        for (int i = 0; i < busy.size(); i++) {
+            long busyStart = (long) busy.start(i) - windowStartMinute;
+            long busyEnd = (long) busy.end(i) - windowStartMinute;
+
+            // candidate k overlaps the busy interval iff busyStart - duration < k * step < busyEnd
+            int first = (int) Math.max(Math.floorDiv(busyStart - durationMinutes, stepMinutes) + 1, 0);
+            int last = (int) Math.min(Math.ceilDiv(busyEnd, stepMinutes), candidateCount);
+            if (first >= last) {
+                continue;
+            }
+            if (currentEnd >= 0 && first <= currentEnd) {
+                currentEnd = Math.max(currentEnd, last);
+            } else {
+                if (currentEnd >= 0) {
+                    diff[currentStart]++;
+                    diff[currentEnd]--;
+                }
+                currentStart = first;
+                currentEnd = last;
+            }
+        }
+        if (currentEnd >= 0) {
+            diff[currentStart]++;
+            diff[currentEnd]--;
+        }
+    }
+
+    /**
+     * Ranks the candidates in {@code [from, to)}, splitting the range on day boundaries.
+     */
+    private static final class RankTask extends RecursiveTask<List<RankedSlot>> {
+
+        private final int[] requiredBusy;
+        private final int[] optionalBusy;
+        private final int optionalTotal;
+        private final int topK;
+        private final int candidatesPerDay;
+        private final int from;
+        private final int to;
+
+        RankTask(int[] requiredBusy, int[] optionalBusy, int optionalTotal, int topK,
+                 int candidatesPerDay, int from, int to) {
+            this.requiredBusy = requiredBusy;
+            this.optionalBusy = optionalBusy;
+            this.optionalTotal = optionalTotal;
+            this.topK = topK;
+            this.candidatesPerDay = candidatesPerDay;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<RankedSlot> compute() {
+            int days = (to - from + candidatesPerDay - 1) / candidatesPerDay;
+            if (days <= 1) {
+                return rankRange();
+            }
+            int mid = from + (days / 2) * candidatesPerDay;
+            RankTask left = new RankTask(requiredBusy, optionalBusy, optionalTotal, topK, candidatesPerDay, from, mid);
+            RankTask right = new RankTask(requiredBusy, optionalBusy, optionalTotal, topK, candidatesPerDay, mid, to);
+            left.fork();
+            List<RankedSlot> rightResult = right.compute();
+            List<RankedSlot> leftResult = left.join();
+
+            List<RankedSlot> merged = new ArrayList<>(leftResult.size() + rightResult.size());
+            merged.addAll(leftResult);
+            merged.addAll(rightResult);
+            merged.sort(BEST_FIRST);
+            return merged.size() > topK ? new ArrayList<>(merged.subList(0, topK)) : merged;
+        }
+
+        private List<RankedSlot> rankRange() {
+            // Min-heap holding the current top K, worst candidate at the head
+            PriorityQueue<RankedSlot> best = new PriorityQueue<>(topK + 1, BEST_FIRST.reversed());
+            for (int i = from; i < to; i++) {
+                if (requiredBusy[i] > 0) {
+                    continue;
+                }
+                int free = optionalTotal - optionalBusy[i];
+                if (best.size() == topK) {
+                    RankedSlot worst = best.peek();
+                    // Candidates are visited in start order, so a tie never beats the head
+                    if (free <= worst.freeOptionalCount()) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.add(new RankedSlot(i, free));
+            }
+            List<RankedSlot> result = new ArrayList<>(best);
+            result.sort(BEST_FIRST);
+            return result;
+        }
+    }
+}
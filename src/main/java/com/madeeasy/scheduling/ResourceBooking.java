@@ -0,0 +1,9 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * A meeting occupying a resource, as kept in the {@link ResourceIntervalIndex}.
+ */
+public record ResourceBooking(Long resourceId, Long meetingId, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,177 @@
+package com.madeeasy.scheduling;
+
+import com.madeeasy.entity.Resource;
+import com.madeeasy.entity.ResourceType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index of resource bookings, partitioned by resource type.
+ * <p>
+ * Within a type, resources are ordered by capacity so a "capacity &ge; N" search starts at the
+ * first resource that is large enough, and the bookings of every resource are kept in a tree keyed
+ * by start time and meeting id. Bookings of one resource never overlap, so only the bookings with the
+ * last start before the end of a time range can overlap it; more than one booking shares a start
+ * only when all but one of them are zero-length.
+ * <p>
+ * The index is only updated after a booking commits and is used for searching. Bookings are always
+ * re-checked against the database inside the booking transaction.
+ */
+@Component
+public class ResourceIntervalIndex {
+
+    private final Map<ResourceType, TypeIndex> indexes = new EnumMap<>(ResourceType.class);
+    private final Map<Long, ResourceType> typeByResourceId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ResourceIntervalIndex() {
+        for (ResourceType type : ResourceType.values()) {
+            indexes.put(type, new TypeIndex());
+        }
+    }
+
+    public void register(Resource resource) {
+        lock.writeLock().lock();
+        try {
+            ResourceType previousType = typeByResourceId.put(resource.getId(), resource.getType());
+            if (previousType != null) {
+                indexes.get(previousType).removeResource(resource.getId());
+            }
+            indexes.get(resource.getType()).addResource(resource.getId(), resource.getCapacity());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addBooking(ResourceBooking booking) {
+        lock.writeLock().lock();
+        try {
+            ResourceType type = typeByResourceId.get(booking.resourceId());
+            if (type != null) {
+                indexes.get(type).bookingsOf(booking.resourceId()).put(BookingKey.of(booking), booking);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeBooking(ResourceBooking booking) {
+        lock.writeLock().lock();
+        try {
+            ResourceType type = typeByResourceId.get(booking.resourceId());
+            if (type != null) {
+                indexes.get(type).bookingsOf(booking.resourceId())
+                        .remove(BookingKey.of(booking), booking);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find resources of the given type and minimum capacity that are free for the whole time range,
+     * smallest sufficient capacity first.
+     *
+     * @param type        the resource type
+     * @param minCapacity the minimum capacity
+     * @param startTime   start of the time range
+     * @param endTime     end of the time range
+     * @param limit       maximum number of resource ids to return
+     * @return ids of the free resources
+     */
+    public List<Long> findFree(ResourceType type, int minCapacity,
+                               LocalDateTime startTime, LocalDateTime endTime, int limit) {
+        List<Long> freeResourceIds = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            TypeIndex index = indexes.get(type);
+            for (TreeSet<Long> resourceIds : index.resourcesByCapacity.tailMap(minCapacity, true).values()) {
+                for (Long resourceId : resourceIds) {
+                    if (index.isFree(resourceId, startTime, endTime)) {
+                        freeResourceIds.add(resourceId);
+                        if (freeResourceIds.size() == limit) {
+                            return freeResourceIds;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return freeResourceIds;
+    }
+
+    /**
+     * Bookings are keyed by start and meeting, so bookings sharing a start time don't replace each other.
+     */
+    private record BookingKey(LocalDateTime startTime, long meetingId) implements Comparable<BookingKey> {
+
+        static BookingKey of(ResourceBooking booking) {
+            return new BookingKey(booking.startTime(), booking.meetingId());
+        }
+
+        @Override
+        public int compareTo(BookingKey other) {
+            int byStart = startTime.compareTo(other.startTime);
+            return byStart != 0 ? byStart : Long.compare(meetingId, other.meetingId);
+        }
+    }
+
+    private static final class TypeIndex {
+
+        private final NavigableMap<Integer, TreeSet<Long>> resourcesByCapacity = new TreeMap<>();
+        private final Map<Long, Integer> capacityByResourceId = new HashMap<>();
+        private final Map<Long, NavigableMap<BookingKey, ResourceBooking>> bookingsByResourceId = new HashMap<>();
+
+        void addResource(Long resourceId, int capacity) {
+            capacityByResourceId.put(resourceId, capacity);
+            resourcesByCapacity.computeIfAbsent(capacity, c -> new TreeSet<>()).add(resourceId);
+        }
+
+        void removeResource(Long resourceId) {
+            Integer capacity = capacityByResourceId.remove(resourceId);
+            if (capacity != null) {
+                TreeSet<Long> resourceIds = resourcesByCapacity.get(capacity);
+                resourceIds.remove(resourceId);
+                if (resourceIds.isEmpty()) {
+                    resourcesByCapacity.remove(capacity);
+                }
+            }
+        }
+
+        NavigableMap<BookingKey, ResourceBooking> bookingsOf(Long resourceId) {
+            return bookingsByResourceId.computeIfAbsent(resourceId, id -> new TreeMap<>());
+        }
+
+        boolean isFree(Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
+            NavigableMap<BookingKey, ResourceBooking> bookings = bookingsByResourceId.get(resourceId);
+            if (bookings == null) {
+                return true;
+            }
+            // Only the bookings with the last start before the range ends can overlap it
+            Map.Entry<BookingKey, ResourceBooking> last = bookings.lowerEntry(new BookingKey(endTime, Long.MIN_VALUE));
+            if (last == null) {
+                return true;
+            }
+            LocalDateTime lastStart = last.getKey().startTime();
+            for (ResourceBooking booking : bookings.subMap(new BookingKey(lastStart, Long.MIN_VALUE), true,
+                    last.getKey(), true).values()) {
+                if (booking.endTime().isAfter(startTime)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
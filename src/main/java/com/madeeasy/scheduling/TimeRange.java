@@ -0,0 +1,32 @@
+package com.madeeasy.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A time range from {@code startTime} to {@code endTime}.
+ */
+public record TimeRange(LocalDateTime startTime, LocalDateTime endTime) {
+
+    /**
+     * The parts of this range that {@code covered} does not cover. When a meeting moves from
+     * {@code covered} to this range, these are the only parts that can introduce new conflicts.
+     *
+     * @param covered the range that is already known to be conflict free
+     * @return zero, one or two ranges, in time order
+     */
+    public List<TimeRange> minus(TimeRange covered) {
+        if (!covered.startTime.isBefore(endTime) || !covered.endTime.isAfter(startTime)) {
+            return List.of(this);
+        }
+        List<TimeRange> uncovered = new ArrayList<>(2);
+        if (startTime.isBefore(covered.startTime)) {
+            uncovered.add(new TimeRange(startTime, covered.startTime));
+        }
+        if (endTime.isAfter(covered.endTime)) {
+            uncovered.add(new TimeRange(covered.endTime, endTime));
+        }
+        return uncovered;
+    }
+}
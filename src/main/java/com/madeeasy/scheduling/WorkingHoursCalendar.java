@@ -0,0 +1,66 @@
+package com.madeeasy.scheduling;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Turns working hours in an employee's time zone into the {@link BusyIntervals} of the time the
+ * employee is off, in the UTC epoch minutes used by the rest of the scheduling core.
+ * <p>
+ * Every local workday is converted with the zone's rules, so workdays after a daylight saving time
+ * transition shift in UTC as they should. A start time that falls into a DST gap moves forward by the
+ * length of the gap.
+ */
+public final class WorkingHoursCalendar {
+
+    private WorkingHoursCalendar() {
+    }
+
+    /**
+     * The off hours within {@code [from, to)}.
+     *
+     * @param zone         the employee's time zone
+     * @param workdayStart local start of a workday
+     * @param workdayEnd   local end of a workday; at or before the start means the next day
+     * @param workingDays  days a workday starts on
+     * @param from         first epoch minute to cover
+     * @param to           epoch minute after the last one to cover
+     * @return the off hours, clipped to {@code [from, to)}
+     */
+    public static BusyIntervals offHours(ZoneId zone, LocalTime workdayStart, LocalTime workdayEnd,
+                                         Set<DayOfWeek> workingDays, int from, int to) {
+        BusyIntervals.Builder working = BusyIntervals.builder();
+        boolean overnight = !workdayEnd.isAfter(workdayStart);
+
+        // Local dates can be a day off from UTC in either direction, and an overnight shift reaches into the next day
+        LocalDate day = EpochMinutes.toLocalDateTime(from).toLocalDate().minusDays(2);
+        LocalDate lastDay = EpochMinutes.toLocalDateTime(to).toLocalDate().plusDays(1);
+        for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (!workingDays.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            ZonedDateTime start = ZonedDateTime.of(day, workdayStart, zone);
+            ZonedDateTime end = ZonedDateTime.of(overnight ? day.plusDays(1) : day, workdayEnd, zone);
+            working.add(toEpochMinute(start), toEpochMinute(end));
+        }
+
+        // Off hours are the gaps between the working intervals
+        BusyIntervals workingIntervals = working.build();
+        BusyIntervals.Builder off = BusyIntervals.builder();
+        int offStart = from;
+        for (int i = 0; i < workingIntervals.size(); i++) {
+            off.add(offStart, Math.min(workingIntervals.start(i), to));
+            offStart = Math.max(offStart, workingIntervals.end(i));
+        }
+        off.add(offStart, to);
+        return off.build();
+    }
+
+    private static int toEpochMinute(ZonedDateTime time) {
+        return Math.toIntExact(Math.floorDiv(time.toEpochSecond(), 60));
+    }
+}
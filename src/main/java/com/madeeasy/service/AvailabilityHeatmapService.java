@@ -0,0 +1,11 @@
+package com.madeeasy.service;
+
+import com.madeeasy.dto.response.AvailabilityHeatmapResponseDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AvailabilityHeatmapService {
+
+    AvailabilityHeatmapResponseDTO getHeatmap(List<Long> employeeIds, LocalDate from, LocalDate to, Integer bucketMinutes);
+}
@@ -0,0 +1,12 @@
+package com.madeeasy.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface CalendarSubscriptionService {
+
+    SseEmitter subscribe(List<Long> employeeIds);
+
+    int getSubscriptionCount();
+}
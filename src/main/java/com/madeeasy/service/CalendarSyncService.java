@@ -0,0 +1,15 @@
+package com.madeeasy.service;
+
+import com.madeeasy.dto.response.CalendarSyncResponseDTO;
+import com.madeeasy.entity.CalendarChangeType;
+import com.madeeasy.entity.CalendarSlot;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CalendarSyncService {
+
+    Map<Long, Long> recordChanges(Long meetingId, Collection<CalendarSlot> calendarSlots, CalendarChangeType changeType);
+
+    CalendarSyncResponseDTO getChangesSince(Long employeeId, long syncToken, int limit);
+}
@@ -0,0 +1,12 @@
+package com.madeeasy.service;
+
+import com.madeeasy.dto.request.EmployeeImportFormat;
+import com.madeeasy.dto.response.EmployeeImportResponseDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface EmployeeImportService {
+
+    EmployeeImportResponseDTO importEmployees(InputStream input, EmployeeImportFormat format) throws IOException;
+}
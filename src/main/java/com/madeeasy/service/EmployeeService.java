@@ -1,6 +1,7 @@
 package com.madeeasy.service;
 
 import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.request.WorkingHoursRequestDTO;
 import com.madeeasy.dto.response.EmployeeResponseDTO;
 import com.madeeasy.entity.Employee;
 
@@ -12,7 +13,11 @@ public interface EmployeeService {
 
     EmployeeResponseDTO getEmployeeById(Long id);
 
+    EmployeeResponseDTO getEmployeeByEmail(String email);
+
     List<EmployeeResponseDTO> getAllEmployees();
 
     boolean employeeExists(Long id);
+
+    EmployeeResponseDTO updateWorkingHours(Long id, WorkingHoursRequestDTO workingHoursRequestDTO);
 }
@@ -1,8 +1,11 @@
 package com.madeeasy.service;
 
+import com.madeeasy.dto.request.GroupScheduleRequestDTO;
 import com.madeeasy.dto.request.MeetingRequestDTO;
+import com.madeeasy.dto.request.RescheduleRequestDTO;
 import com.madeeasy.dto.response.CalendarSlotResponseDTO;
 import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.dto.response.SlotSuggestionResponseDTO;
 import com.madeeasy.entity.CalendarSlot;
 import com.madeeasy.entity.Employee;
 
@@ -16,4 +19,10 @@ public interface MeetingService {
                                               int durationMinutes);
 
     List<CalendarSlotResponseDTO> getAvailableSlots(List<Long> employeeIds, LocalDateTime requestedStartTime, int durationMinutes);
+
+    List<SlotSuggestionResponseDTO> findOptimalSlots(GroupScheduleRequestDTO request);
+
+    void cancelMeeting(Long meetingId);
+
+    MeetingResponseDTO rescheduleMeeting(Long meetingId, RescheduleRequestDTO request);
 }
@@ -0,0 +1,20 @@
+package com.madeeasy.service;
+
+import com.madeeasy.dto.request.ResourceRequestDTO;
+import com.madeeasy.dto.response.ResourceResponseDTO;
+import com.madeeasy.entity.ResourceType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ResourceService {
+
+    ResourceResponseDTO createResource(ResourceRequestDTO resourceRequestDTO);
+
+    ResourceResponseDTO getResourceById(Long id);
+
+    List<ResourceResponseDTO> getAllResources();
+
+    List<ResourceResponseDTO> findFreeResources(ResourceType type, int minCapacity,
+                                                LocalDateTime startTime, int durationMinutes, int limit);
+}
@@ -0,0 +1,13 @@
+package com.madeeasy.service;
+
+import com.madeeasy.scheduling.BusyIntervals;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface WorkingHoursService {
+
+    Map<Long, BusyIntervals> getOffHours(Collection<Long> employeeIds, int fromEpochMinute, int toEpochMinute);
+
+    void evict(Long employeeId);
+}
@@ -0,0 +1,165 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.response.AvailabilityHeatmapResponseDTO;
+import com.madeeasy.dto.response.HeatmapDayResponseDTO;
+import com.madeeasy.event.CalendarChangedEvent;
+import com.madeeasy.repository.CalendarSlotRepository;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.scheduling.AvailabilityHeatmap;
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.BusySlot;
+import com.madeeasy.scheduling.EpochMinutes;
+import com.madeeasy.service.AvailabilityHeatmapService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds busy-count heatmaps for a team over a range of days and caches them per team and range.
+ * <p>
+ * A heatmap is built from one query for the team's busy slots in the range. A cached heatmap is
+ * dropped as soon as a meeting of any of its team members is booked, rescheduled or cancelled.
+ * Heatmaps are built from the primary, since one read from a lagging replica after the change event
+ * had fired would stay cached until the team's next change. Callers get a copy of the cached heatmap.
+ */
+@Service
+public class AvailabilityHeatmapServiceImpl implements AvailabilityHeatmapService {
+
+    private static final int DEFAULT_BUCKET_MINUTES = 60;
+    private static final int MAX_DAYS = 92;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Cache key; the team is sorted so the order of the requested ids does not matter.
+     */
+    private record HeatmapKey(List<Long> employeeIds, LocalDate from, LocalDate to, int bucketMinutes) {
+    }
+
+    private final CalendarSlotRepository calendarSlotRepository;
+    private final EmployeeRepository employeeRepository;
+    private final int cacheSize;
+
+    private final Map<HeatmapKey, AvailabilityHeatmapResponseDTO> cache = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AvailabilityHeatmapServiceImpl(CalendarSlotRepository calendarSlotRepository,
+                                          EmployeeRepository employeeRepository,
+                                          @Value("${app.scheduling.heatmap.cache-size:1000}") int cacheSize) {
+        this.calendarSlotRepository = calendarSlotRepository;
+        this.employeeRepository = employeeRepository;
+        this.cacheSize = cacheSize;
+    }
+
+    // Not read-only, so the heatmap is built from the primary and never from a lagging replica
+    @Transactional
+    @Override
+    public AvailabilityHeatmapResponseDTO getHeatmap(List<Long> employeeIds, LocalDate from, LocalDate to,
+                                                     Integer bucketMinutes) {
+        // Validate request data
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee is required.");
+        }
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("From must not be after to.");
+        }
+        EpochMinutes.checkSupported(from.atStartOfDay());
+        EpochMinutes.checkSupported(to.atStartOfDay());
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_DAYS) {
+            throw new IllegalArgumentException("Heatmap range must not exceed " + MAX_DAYS + " days.");
+        }
+        int bucket = bucketMinutes == null ? DEFAULT_BUCKET_MINUTES : bucketMinutes;
+        if (bucket <= 0 || MINUTES_PER_DAY % bucket != 0) {
+            throw new IllegalArgumentException("Bucket minutes must divide a day.");
+        }
+
+        HeatmapKey key = new HeatmapKey(List.copyOf(new TreeSet<>(employeeIds)), from, to, bucket);
+        AvailabilityHeatmapResponseDTO cached = cache.get(key);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        Set<Long> invalidIds = new HashSet<>(key.employeeIds());
+        invalidIds.removeAll(employeeRepository.findExistingIds(key.employeeIds()));
+        if (!invalidIds.isEmpty()) {
+            throw new EntityNotFoundException("Employees not found with IDs: " + invalidIds);
+        }
+
+        // A heatmap built from slots read before an eviction must not be cached
+        long evictionsBeforeLoad = evictions.get();
+        AvailabilityHeatmapResponseDTO heatmap = build(key, days);
+        if (evictions.get() == evictionsBeforeLoad) {
+            if (cache.size() >= cacheSize) {
+                Iterator<HeatmapKey> keys = cache.keySet().iterator();
+                if (keys.hasNext()) {
+                    keys.next();
+                    keys.remove();
+                }
+            }
+            cache.put(key, heatmap);
+        }
+        return copyOf(heatmap);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        evictions.incrementAndGet();
+        Set<Long> affectedIds = event.sequenceByEmployeeId().keySet();
+        cache.keySet().removeIf(key -> key.employeeIds().stream().anyMatch(affectedIds::contains));
+    }
+
+    /**
+     * Copy of a heatmap, so callers can't change the cached one.
+     */
+    private static AvailabilityHeatmapResponseDTO copyOf(AvailabilityHeatmapResponseDTO heatmap) {
+        return heatmap.toBuilder()
+                .days(heatmap.getDays().stream()
+                        .map(day -> day.toBuilder().busyCounts(day.getBusyCounts().clone()).build())
+                        .toList())
+                .build();
+    }
+
+    private AvailabilityHeatmapResponseDTO build(HeatmapKey key, int days) {
+        List<BusySlot> busySlots = calendarSlotRepository.findBusySlots(key.employeeIds(),
+                key.from().atStartOfDay(), key.to().plusDays(1).atStartOfDay());
+
+        Map<Long, BusyIntervals.Builder> busyByEmployee = new HashMap<>();
+        for (BusySlot slot : busySlots) {
+            busyByEmployee.computeIfAbsent(slot.employeeId(), id -> BusyIntervals.builder())
+                    .add(slot.startTime(), slot.endTime());
+        }
+        List<BusyIntervals> busy = busyByEmployee.values().stream().map(BusyIntervals.Builder::build).toList();
+
+        int[][] counts = AvailabilityHeatmap.busyCounts(busy, EpochMinutes.floor(key.from().atStartOfDay()),
+                days, key.bucketMinutes());
+        List<HeatmapDayResponseDTO> dayResponses = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            dayResponses.add(HeatmapDayResponseDTO.builder()
+                    .date(key.from().plusDays(day))
+                    .busyCounts(counts[day])
+                    .build());
+        }
+        return AvailabilityHeatmapResponseDTO.builder()
+                .employeeIds(key.employeeIds())
+                .from(key.from())
+                .to(key.to())
+                .bucketMinutes(key.bucketMinutes())
+                .days(dayResponses)
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.response.CalendarEventResponseDTO;
+import com.madeeasy.event.CalendarChangedEvent;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.service.CalendarSubscriptionService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes calendar changes to subscribed clients over server-sent events.
+ * <p>
+ * Subscriptions are indexed by employee id, so fan-out only touches the subscribers of the affected
+ * employees. An idle subscription holds no thread: events go into a small bounded buffer and a virtual
+ * thread is started only while there is something to send. When a slow client lets its buffer overflow,
+ * the buffered events are dropped and a single {@code resync} event tells the client to catch up
+ * through the delta sync endpoint instead. Subscribing only holds a database connection while the
+ * employee ids are validated, see {@link com.madeeasy.config.OpenEntityManagerInViewConfig}.
+ */
+@Slf4j
+@Service
+public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionService {
+
+    private static final int MAX_EMPLOYEES_PER_SUBSCRIPTION = 500;
+
+    private final EmployeeRepository employeeRepository;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final Map<Long, Set<Subscription>> subscriptionsByEmployeeId = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CalendarSubscriptionServiceImpl(EmployeeRepository employeeRepository,
+                                           @Value("${app.calendar.subscription.buffer-size:32}") int bufferSize,
+                                           @Value("${app.calendar.subscription.timeout:30m}") Duration timeout) {
+        this.employeeRepository = employeeRepository;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    // Subscriptions run without open entity manager in view, so the connection is returned when this ends
+    @Transactional(readOnly = true)
+    @Override
+    public SseEmitter subscribe(List<Long> employeeIds) {
+        Set<Long> ids = new HashSet<>(employeeIds);
+        if (ids.isEmpty() || ids.size() > MAX_EMPLOYEES_PER_SUBSCRIPTION) {
+            throw new IllegalArgumentException("Subscribe to between 1 and " + MAX_EMPLOYEES_PER_SUBSCRIPTION + " employees.");
+        }
+        Set<Long> invalidIds = new HashSet<>(ids);
+        invalidIds.removeAll(employeeRepository.findExistingIds(ids));
+        if (!invalidIds.isEmpty()) {
+            throw new EntityNotFoundException("Employees not found with IDs: " + invalidIds);
+        }
+
+        SseEmitter emitter = newEmitter();
+        Subscription subscription = new Subscription(emitter, Set.copyOf(ids), new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(error -> unregister(subscription));
+
+        // Add inside compute, so a concurrent unregister can't drop the set between lookup and add
+        for (Long id : subscription.employeeIds) {
+            subscriptionsByEmployeeId.compute(id, (key, subscriptions) -> {
+                Set<Subscription> registered = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+                registered.add(subscription);
+                return registered;
+            });
+        }
+        subscriptionCount.incrementAndGet();
+
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            unregister(subscription);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Override
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        // Group the affected employees per subscription, so a subscriber gets one event per change
+        Map<Subscription, Map<Long, Long>> tokensBySubscription = new IdentityHashMap<>();
+        event.sequenceByEmployeeId().forEach((employeeId, sequence) -> {
+            Set<Subscription> subscriptions = subscriptionsByEmployeeId.get(employeeId);
+            if (subscriptions != null) {
+                for (Subscription subscription : subscriptions) {
+                    tokensBySubscription.computeIfAbsent(subscription, s -> new HashMap<>()).put(employeeId, sequence);
+                }
+            }
+        });
+
+        tokensBySubscription.forEach((subscription, syncTokens) -> subscription.enqueue(CalendarEventResponseDTO.builder()
+                .meetingId(event.meetingId())
+                .changeType(event.changeType())
+                .startTime(event.startTime())
+                .endTime(event.endTime())
+                .syncTokens(syncTokens)
+                .build()));
+    }
+
+    // Package-private so tests can record what a subscription sends
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscriptionsByEmployeeId.values().forEach(subscriptions -> subscriptions.forEach(s -> s.emitter.complete()));
+    }
+
+    private void unregister(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (Long id : subscription.employeeIds) {
+            subscriptionsByEmployeeId.computeIfPresent(id, (key, subscriptions) -> {
+                subscriptions.remove(subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+        subscriptionCount.decrementAndGet();
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> employeeIds;
+        private final BlockingQueue<CalendarEventResponseDTO> buffer;
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscription(SseEmitter emitter, Set<Long> employeeIds, BlockingQueue<CalendarEventResponseDTO> buffer) {
+            this.emitter = emitter;
+            this.employeeIds = employeeIds;
+            this.buffer = buffer;
+        }
+
+        void enqueue(CalendarEventResponseDTO event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                overflowed.set(true);
+            }
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                CalendarEventResponseDTO event;
+                while (!closed.get()) {
+                    if (overflowed.getAndSet(false)) {
+                        buffer.clear();
+                        emitter.send(SseEmitter.event().name("resync").data("buffer overflow, sync through /api/calendar/sync"));
+                    }
+                    if ((event = buffer.poll()) == null) {
+                        break;
+                    }
+                    emitter.send(SseEmitter.event().name("calendar-changed").data(event));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping calendar subscription for employees {}: {}", employeeIds, e.getMessage());
+                unregister(this);
+                emitter.completeWithError(e);
+            } finally {
+                sending.set(false);
+            }
+            // An event may have arrived after the last poll but before the flag was cleared
+            if (!closed.get() && (!buffer.isEmpty() || overflowed.get())) {
+                scheduleSend();
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.response.CalendarSlotResponseDTO;
+import com.madeeasy.dto.response.CalendarSyncResponseDTO;
+import com.madeeasy.dto.response.EmployeeResponseDTO;
+import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.entity.CalendarChange;
+import com.madeeasy.entity.CalendarChangeType;
+import com.madeeasy.entity.CalendarSlot;
+import com.madeeasy.entity.Meeting;
+import com.madeeasy.repository.CalendarChangeRepository;
+import com.madeeasy.repository.CalendarSlotRepository;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.repository.MeetingRepository;
+import com.madeeasy.service.CalendarSyncService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CalendarSyncServiceImpl implements CalendarSyncService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final CalendarChangeRepository calendarChangeRepository;
+    private final EmployeeRepository employeeRepository;
+    private final MeetingRepository meetingRepository;
+    private final CalendarSlotRepository calendarSlotRepository;
+
+    /**
+     * Append a change to the calendar of every slot owner. Each employee's calendar sequence is bumped
+     * once; the employee rows stay locked until the surrounding transaction commits, so a client never
+     * sees a sequence number before all lower ones of the same calendar are committed.
+     *
+     * @param meetingId     the meeting that changed
+     * @param calendarSlots the affected slots, at most one per employee
+     * @param changeType    what happened to the meeting
+     * @return the new calendar sequence per employee id
+     */
+    @Override
+    public Map<Long, Long> recordChanges(Long meetingId, Collection<CalendarSlot> calendarSlots,
+                                         CalendarChangeType changeType) {
+        if (calendarSlots.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        calendarSlots.forEach(slot -> employeeIds.add(slot.getEmployee().getId()));
+
+        employeeRepository.incrementCalendarSequence(employeeIds);
+        Map<Long, Long> sequenceByEmployeeId = new HashMap<>();
+        for (Object[] row : employeeRepository.findCalendarSequences(employeeIds)) {
+            sequenceByEmployeeId.put((Long) row[0], (Long) row[1]);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CalendarChange> changes = calendarSlots.stream()
+                .map(slot -> CalendarChange.builder()
+                        .employeeId(slot.getEmployee().getId())
+                        .sequence(sequenceByEmployeeId.get(slot.getEmployee().getId()))
+                        .meetingId(meetingId)
+                        .calendarSlotId(slot.getId())
+                        .changeType(changeType)
+                        .changedAt(now)
+                        .build())
+                .toList();
+        calendarChangeRepository.saveAll(changes);
+        return sequenceByEmployeeId;
+    }
+
+    /**
+     * Return what changed in an employee's calendar after the given sync token. Only the latest
+     * change of each meeting is returned: live meetings with the employee's slot, cancelled meetings
+     * as tombstones.
+     *
+     * @param employeeId the calendar owner
+     * @param syncToken  the token from the previous sync, {@code 0} for a full sync
+     * @param limit      maximum number of change log entries to consume
+     * @return the changes and the token for the next sync
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CalendarSyncResponseDTO getChangesSince(Long employeeId, long syncToken, int limit) {
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new EntityNotFoundException("Employee not found with id " + employeeId);
+        }
+        if (syncToken < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Sync token must not be negative and limit must be positive.");
+        }
+
+        int pageSize = Math.min(limit, MAX_LIMIT);
+        List<CalendarChange> changes = calendarChangeRepository.findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(
+                employeeId, syncToken, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        // Only the latest change of each meeting matters
+        Map<Long, CalendarChange> latestByMeetingId = new LinkedHashMap<>();
+        for (CalendarChange change : changes) {
+            latestByMeetingId.put(change.getMeetingId(), change);
+        }
+
+        Set<Long> liveMeetingIds = new LinkedHashSet<>();
+        List<Long> cancelledMeetingIds = new ArrayList<>();
+        List<Long> deletedCalendarSlotIds = new ArrayList<>();
+        for (CalendarChange change : latestByMeetingId.values()) {
+            if (change.getChangeType() == CalendarChangeType.CANCELLED) {
+                cancelledMeetingIds.add(change.getMeetingId());
+                if (change.getCalendarSlotId() != null) {
+                    deletedCalendarSlotIds.add(change.getCalendarSlotId());
+                }
+            } else {
+                liveMeetingIds.add(change.getMeetingId());
+            }
+        }
+
+        List<Meeting> meetings = liveMeetingIds.isEmpty()
+                ? List.of() : meetingRepository.findAllWithParticipantsByIdIn(liveMeetingIds);
+        List<CalendarSlot> calendarSlots = liveMeetingIds.isEmpty()
+                ? List.of() : calendarSlotRepository.findByEmployeeIdAndMeetingIds(employeeId, liveMeetingIds);
+
+        return CalendarSyncResponseDTO.builder()
+                .employeeId(employeeId)
+                .syncToken(changes.isEmpty() ? syncToken : changes.get(changes.size() - 1).getSequence())
+                .hasMore(hasMore)
+                .meetings(meetings.stream()
+                        .map(CalendarSyncServiceImpl::toResponse)
+                        .toList())
+                .calendarSlots(calendarSlots.stream()
+                        .map(slot -> CalendarSlotResponseDTO.builder()
+                                .id(slot.getId())
+                                .meetingId(slot.getMeeting().getId())
+                                .startTime(slot.getStartTime())
+                                .endTime(slot.getEndTime())
+                                .isAvailable(slot.isAvailable())
+                                .build())
+                        .toList())
+                .cancelledMeetingIds(cancelledMeetingIds)
+                .deletedCalendarSlotIds(deletedCalendarSlotIds)
+                .build();
+    }
+
+    private static MeetingResponseDTO toResponse(Meeting meeting) {
+        return MeetingResponseDTO.builder()
+                .id(meeting.getId())
+                .topic(meeting.getTopic())
+                .startTime(meeting.getStartTime())
+                .endTime(meeting.getEndTime())
+                .participants(meeting.getParticipants().stream()
+                        .map(employee -> EmployeeResponseDTO.builder()
+                                .id(employee.getId())
+                                .name(employee.getName())
+                                .email(employee.getEmail())
+                                .build())
+                        .toList())
+                .resources(meeting.getResources() == null ? List.of() : meeting.getResources().stream()
+                        .map(ResourceServiceImpl::toResponse)
+                        .toList())
+                .build();
+    }
+}
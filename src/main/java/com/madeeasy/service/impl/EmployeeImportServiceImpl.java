@@ -0,0 +1,231 @@
+package com.madeeasy.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madeeasy.dto.request.EmployeeImportFormat;
+import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.response.EmployeeImportResponseDTO;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.service.EmployeeImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Streams employees from CSV or NDJSON into the database in chunks.
+ * <p>
+ * Each chunk is checked against the unique email index with one {@code IN} query and the new
+ * employees are inserted with a single JDBC batch, in one transaction per chunk. Should another
+ * request create one of the employees in the meantime, the chunk falls back to row-by-row inserts
+ * and counts the rows hitting the index as duplicates.
+ * <p>
+ * Emails are normalized like {@link EmployeeServiceImpl#normalizeEmail(String) single creates} before
+ * they are deduplicated, so addresses differing only in case count as duplicates. A CSV without an
+ * email column is rejected as a whole with an {@link IllegalArgumentException}, which the API reports
+ * as {@code 400 Bad Request}.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employee (name, email, calendar_sequence) VALUES (?, ?, 0)";
+
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public EmployeeImportResponseDTO importEmployees(InputStream input, EmployeeImportFormat format) throws IOException {
+        ImportCounts counts = new ImportCounts();
+        Set<String> seenEmails = new HashSet<>();
+        List<EmployeeRequestDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            int[] columns = null;  // index of the name and email column
+            if (format == EmployeeImportFormat.CSV) {
+                String header = reader.readLine();
+                if (header == null) {
+                    return counts.toResponse();
+                }
+                lineNumber++;
+                columns = csvColumns(header);
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                counts.received++;
+
+                EmployeeRequestDTO employee;
+                try {
+                    employee = format == EmployeeImportFormat.CSV
+                            ? fromCsv(line, columns)
+                            : objectMapper.readValue(line, EmployeeRequestDTO.class);
+                } catch (IOException | IllegalArgumentException e) {
+                    counts.invalid(lineNumber, "malformed line");
+                    continue;
+                }
+                String email = employee.getEmail() == null ? "" : EmployeeServiceImpl.normalizeEmail(employee.getEmail());
+                if (email.indexOf('@') < 1) {
+                    counts.invalid(lineNumber, "missing or invalid email");
+                    continue;
+                }
+                if (!seenEmails.add(email)) {
+                    counts.duplicates++;
+                    continue;
+                }
+                employee.setEmail(email);
+                chunk.add(employee);
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    insertChunk(chunk, counts);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, counts);
+        }
+        return counts.toResponse();
+    }
+
+    private void insertChunk(List<EmployeeRequestDTO> chunk, ImportCounts counts) {
+        List<String> emails = chunk.stream().map(EmployeeRequestDTO::getEmail).toList();
+        try {
+            int inserted = transactionTemplate.execute(status -> {
+                Set<String> existingEmails = new HashSet<>(employeeRepository.findExistingEmails(emails));
+                List<EmployeeRequestDTO> newEmployees = chunk.stream()
+                        .filter(employee -> !existingEmails.contains(employee.getEmail()))
+                        .toList();
+                jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, newEmployees, newEmployees.size(), (statement, employee) -> {
+                    statement.setString(1, employee.getName());
+                    statement.setString(2, employee.getEmail());
+                });
+                return newEmployees.size();
+            });
+            counts.imported += inserted;
+            counts.duplicates += chunk.size() - inserted;
+        } catch (DataIntegrityViolationException e) {
+            // Another request created one of these employees since the check; the chunk was rolled back
+            for (EmployeeRequestDTO employee : chunk) {
+                try {
+                    jdbcTemplate.update(INSERT_EMPLOYEE, employee.getName(), employee.getEmail());
+                    counts.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    counts.duplicates++;
+                } catch (DataIntegrityViolationException invalid) {
+                    counts.invalid(-1, "rejected by the database: " + employee.getEmail());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the index of the name column (or -1) and of the email column
+     */
+    private static int[] csvColumns(String header) {
+        List<String> names = splitCsv(header.replace("\uFEFF", ""));
+        int nameColumn = -1;
+        int emailColumn = -1;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (name.equals("name")) {
+                nameColumn = i;
+            } else if (name.equals("email")) {
+                emailColumn = i;
+            }
+        }
+        if (emailColumn < 0) {
+            throw new IllegalArgumentException("The CSV header must name an email column.");
+        }
+        return new int[]{nameColumn, emailColumn};
+    }
+
+    private static EmployeeRequestDTO fromCsv(String line, int[] columns) {
+        List<String> fields = splitCsv(line);
+        String name = columns[0] >= 0 && columns[0] < fields.size() ? fields.get(columns[0]).trim() : null;
+        String email = columns[1] < fields.size() ? fields.get(columns[1]) : null;
+        return new EmployeeRequestDTO(name, email);
+    }
+
+    /**
+     * Split a CSV line into fields; fields may be quoted, with {@code ""} for a quote inside them.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportCounts {
+
+        private long received;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        private final List<String> errors = new ArrayList<>();
+
+        void invalid(int lineNumber, String reason) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber > 0 ? "line " + lineNumber + ": " + reason : reason);
+            }
+        }
+
+        EmployeeImportResponseDTO toResponse() {
+            return EmployeeImportResponseDTO.builder()
+                    .received(received)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .invalid(invalid)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
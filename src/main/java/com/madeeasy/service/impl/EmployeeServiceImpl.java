@@ -1,36 +1,63 @@
 package com.madeeasy.service.impl;
 
 import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.request.WorkingHoursRequestDTO;
 import com.madeeasy.dto.response.EmployeeResponseDTO;
+import com.madeeasy.dto.response.WorkingHoursResponseDTO;
 import com.madeeasy.entity.Employee;
+import com.madeeasy.entity.WorkingHours;
 import com.madeeasy.exception.ConflictException;
 import com.madeeasy.repository.EmployeeRepository;
 import com.madeeasy.service.EmployeeService;
+import com.madeeasy.service.WorkingHoursService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final WorkingHoursService workingHoursService;
+
+    /**
+     * Emails are stored trimmed and in lower case, so the unique index treats {@code A@x.com} and
+     * {@code a@x.com} as the same address.
+     */
+    static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 
     @Override
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO employee) {
+        String email = normalizeEmail(employee.getEmail());
 
-        if (employeeRepository.existsByEmail(employee.getEmail())) {
-            throw new ConflictException("Employee with Email " + employee.getEmail() + " already exists");
+        if (employeeRepository.existsByEmail(email)) {
+            throw new ConflictException("Employee with Email " + email + " already exists");
         }
 
         Employee newEmployee = Employee.builder()
                 .name(employee.getName())
-                .email(employee.getEmail())
+                .email(email)
                 .build();
 
-        Employee savedEmployee = this.employeeRepository.save(newEmployee);
+        // The unique email index catches creates racing past the check above
+        Employee savedEmployee;
+        try {
+            savedEmployee = this.employeeRepository.saveAndFlush(newEmployee);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Employee with Email " + email + " already exists");
+        }
 
         return EmployeeResponseDTO.builder()
                 .id(savedEmployee.getId())
@@ -39,6 +66,7 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public EmployeeResponseDTO getEmployeeById(Long id) {
         Employee foundEmployeeById = employeeRepository.findById(id)
@@ -48,9 +76,25 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .id(foundEmployeeById.getId())
                 .name(foundEmployeeById.getName())
                 .email(foundEmployeeById.getEmail())
+                .workingHours(toResponse(foundEmployeeById.getWorkingHours()))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public EmployeeResponseDTO getEmployeeByEmail(String email) {
+        Employee foundEmployeeByEmail = employeeRepository.findByEmail(normalizeEmail(email))
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with email " + email));
+
+        return EmployeeResponseDTO.builder()
+                .id(foundEmployeeByEmail.getId())
+                .name(foundEmployeeByEmail.getName())
+                .email(foundEmployeeByEmail.getEmail())
+                .workingHours(toResponse(foundEmployeeByEmail.getWorkingHours()))
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<EmployeeResponseDTO> getAllEmployees() {
         List<Employee> employeeList = employeeRepository.findAll();
@@ -64,8 +108,74 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public boolean employeeExists(Long id) {
         return employeeRepository.existsById(id);
     }
+
+    /**
+     * Set or clear the working hours of an employee. Free-slot searches treat the time outside
+     * the working hours as busy; an employee without working hours is always available.
+     *
+     * @param id      the employee
+     * @param request time zone, workday start and end and working days, or all {@code null} to clear them
+     * @return the updated employee
+     */
+    @Override
+    public EmployeeResponseDTO updateWorkingHours(Long id, WorkingHoursRequestDTO request) {
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found with id " + id));
+
+        employee.setWorkingHours(toWorkingHours(request));
+        Employee savedEmployee = employeeRepository.save(employee);
+        workingHoursService.evict(id);
+
+        return EmployeeResponseDTO.builder()
+                .id(savedEmployee.getId())
+                .name(savedEmployee.getName())
+                .email(savedEmployee.getEmail())
+                .workingHours(toResponse(savedEmployee.getWorkingHours()))
+                .build();
+    }
+
+    private static WorkingHours toWorkingHours(WorkingHoursRequestDTO request) {
+        if (request.getTimeZone() == null && request.getWorkdayStart() == null
+                && request.getWorkdayEnd() == null && request.getWorkingDays() == null) {
+            return null;
+        }
+        if (request.getTimeZone() == null || request.getWorkdayStart() == null || request.getWorkdayEnd() == null) {
+            throw new IllegalArgumentException("Time zone, workday start and workday end are required.");
+        }
+        if (request.getWorkdayStart().equals(request.getWorkdayEnd())) {
+            throw new IllegalArgumentException("Workday start and end must differ.");
+        }
+        if (request.getWorkingDays() == null || request.getWorkingDays().isEmpty()) {
+            throw new IllegalArgumentException("At least one working day is required.");
+        }
+        try {
+            ZoneId.of(request.getTimeZone());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone " + request.getTimeZone());
+        }
+
+        return WorkingHours.builder()
+                .timeZone(request.getTimeZone())
+                .workdayStart(request.getWorkdayStart())
+                .workdayEnd(request.getWorkdayEnd())
+                .workingDays(EnumSet.copyOf(request.getWorkingDays()))
+                .build();
+    }
+
+    private static WorkingHoursResponseDTO toResponse(WorkingHours workingHours) {
+        if (workingHours == null) {
+            return null;
+        }
+        return WorkingHoursResponseDTO.builder()
+                .timeZone(workingHours.getTimeZone())
+                .workdayStart(workingHours.getWorkdayStart())
+                .workdayEnd(workingHours.getWorkdayEnd())
+                .workingDays(workingHours.getWorkingDays())
+                .build();
+    }
 }
@@ -1,27 +1,54 @@
 package com.madeeasy.service.impl;
 
+import com.madeeasy.dto.request.GroupScheduleRequestDTO;
 import com.madeeasy.dto.request.MeetingRequestDTO;
+import com.madeeasy.dto.request.RescheduleRequestDTO;
 import com.madeeasy.dto.response.CalendarSlotResponseDTO;
 import com.madeeasy.dto.response.EmployeeResponseDTO;
 import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.dto.response.SlotSuggestionResponseDTO;
+import com.madeeasy.entity.CalendarChangeType;
 import com.madeeasy.entity.CalendarSlot;
 import com.madeeasy.entity.Employee;
 import com.madeeasy.entity.Meeting;
+import com.madeeasy.entity.Resource;
+import com.madeeasy.entity.ResourceType;
+import com.madeeasy.event.CalendarChangedEvent;
 import com.madeeasy.exception.ConflictException;
 import com.madeeasy.exception.ResourceNotFoundException;
 import com.madeeasy.repository.CalendarSlotRepository;
 import com.madeeasy.repository.EmployeeRepository;
 import com.madeeasy.repository.MeetingRepository;
+import com.madeeasy.repository.ResourceRepository;
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.BusySlot;
+import com.madeeasy.scheduling.EpochMinutes;
+import com.madeeasy.scheduling.GroupSlotOptimizer;
+import com.madeeasy.scheduling.ResourceBooking;
+import com.madeeasy.scheduling.ResourceIntervalIndex;
+import com.madeeasy.scheduling.TimeRange;
+import com.madeeasy.service.CalendarSyncService;
 import com.madeeasy.service.EmployeeService;
 import com.madeeasy.service.MeetingService;
+import com.madeeasy.service.WorkingHoursService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,10 +56,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MeetingServiceImpl implements MeetingService {
 
+    private static final int DEFAULT_STEP_MINUTES = 15;
+    private static final int DEFAULT_TOP_K = 5;
+    private static final int MAX_TOP_K = 100;
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(92);
+
     private final MeetingRepository meetingRepository;
     private final EmployeeRepository employeeRepository;
     private final CalendarSlotRepository calendarSlotRepository;
     private final EmployeeService employeeService;
+    private final ResourceRepository resourceRepository;
+    private final ResourceIntervalIndex resourceIntervalIndex;
+    private final CalendarSyncService calendarSyncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkingHoursService workingHoursService;
 
     @Override
     public MeetingResponseDTO bookMeeting(MeetingRequestDTO request) {
@@ -59,17 +96,22 @@ public class MeetingServiceImpl implements MeetingService {
             throw new IllegalArgumentException("Start time must be before end time.");
         }
 
-        // Retrieve participants from database
-        List<Employee> participants = new ArrayList<>(employeeRepository.findAllById(request.getParticipantIds()));
+        // Participants in request order, followed by the admin unless they are listed already
+        Set<Long> attendeeIds = new LinkedHashSet<>(request.getParticipantIds());
+        attendeeIds.add(request.getAdminId());
 
-        if (participants.size() != request.getParticipantIds().size()) {
-            throw new ResourceNotFoundException("One or more participants not found.");
+        // Lock the attendees before the conflict check, as reschedules do when recording the change;
+        // otherwise a concurrent booking or reschedule could pass its check for the same employee
+        Map<Long, Employee> attendeesById = new HashMap<>();
+        for (Employee attendee : employeeRepository.findAllByIdForUpdate(attendeeIds)) {
+            attendeesById.put(attendee.getId(), attendee);
         }
 
-        Employee adminParticipant = this.employeeRepository.findById(request.getAdminId()).get();
-
-        // add admin to participants
-        participants.add(adminParticipant);
+        if (attendeesById.size() != attendeeIds.size()) {
+            throw new ResourceNotFoundException("One or more participants not found.");
+        }
+        List<Employee> participants = new ArrayList<>(attendeeIds.size());
+        attendeeIds.forEach(id -> participants.add(attendeesById.get(id)));
 
         // Check for scheduling conflicts in CalendarSlots
         for (Employee participant : participants) {
@@ -80,31 +122,165 @@ public class MeetingServiceImpl implements MeetingService {
             }
         }
 
+        // Lock the requested resources and check them for conflicts in the same transaction
+        List<Resource> resources = lockAvailableResources(request, participants.size());
+
         // Create and save new meeting if no conflicts
         Meeting meeting = new Meeting();
         meeting.setTopic(request.getTopic());
+        meeting.setOrganizerId(request.getAdminId());
         meeting.setParticipants(participants);
+        meeting.setResources(resources);
         meeting.setStartTime(request.getStartTime());
         meeting.setEndTime(request.getEndTime());
 
         Meeting savedMeeting = meetingRepository.save(meeting);
 
         // Create calendar slots for each participant
+        List<CalendarSlot> slots = new ArrayList<>(participants.size());
         for (Employee participant : participants) {
             CalendarSlot slot = new CalendarSlot();
             slot.setEmployee(participant);
+            slot.setMeeting(savedMeeting);
             slot.setStartTime(request.getStartTime());
             slot.setEndTime(request.getEndTime());
             slot.setAvailable(false);  // Mark the slot as booked
             calendarSlotRepository.save(slot);  // Save the calendar slot
+            slots.add(slot);
+        }
+
+        // Append the new meeting to every participant's change log for delta sync
+        Map<Long, Long> sequenceByEmployeeId =
+                calendarSyncService.recordChanges(savedMeeting.getId(), slots, CalendarChangeType.CREATED);
+        eventPublisher.publishEvent(new CalendarChangedEvent(savedMeeting.getId(), CalendarChangeType.CREATED,
+                request.getAdminId(), savedMeeting.getStartTime(), savedMeeting.getEndTime(), sequenceByEmployeeId));
+
+        // Make the booked resources visible to room searches once the booking is committed
+        if (!resources.isEmpty()) {
+            List<ResourceBooking> bookings = resources.stream()
+                    .map(resource -> new ResourceBooking(resource.getId(), savedMeeting.getId(),
+                            savedMeeting.getStartTime(), savedMeeting.getEndTime()))
+                    .toList();
+            afterCommit(() -> bookings.forEach(resourceIntervalIndex::addBooking));
         }
 
         // Build and return response DTO
+        return toResponse(savedMeeting, participants, resources);
+    }
+
+    /**
+     * Cancel a meeting: its participant and resource rows, and every participant's calendar slot,
+     * are removed in one transaction.
+     *
+     * @param meetingId the meeting to cancel
+     */
+    @Override
+    public void cancelMeeting(Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Meeting not found with id " + meetingId));
+
+        List<CalendarSlot> slots = calendarSlotRepository.findByMeetingId(meetingId);
+        List<ResourceBooking> bookings = resourceBookingsOf(meeting);
+
+        Map<Long, Long> sequenceByEmployeeId =
+                calendarSyncService.recordChanges(meetingId, slots, CalendarChangeType.CANCELLED);
+
+        // One statement for all slots; deleting the meeting removes its participant and resource rows
+        calendarSlotRepository.deleteByMeetingId(meetingId);
+        meetingRepository.delete(meeting);
+
+        eventPublisher.publishEvent(new CalendarChangedEvent(meetingId, CalendarChangeType.CANCELLED,
+                meeting.getOrganizerId(), meeting.getStartTime(), meeting.getEndTime(), sequenceByEmployeeId));
+        if (!bookings.isEmpty()) {
+            afterCommit(() -> bookings.forEach(resourceIntervalIndex::removeBooking));
+        }
+    }
+
+    /**
+     * Move a meeting to a new time range. Participants and resources were already conflict free
+     * in the old range, so only the parts of the new range outside the old one are checked.
+     *
+     * @param meetingId the meeting to move
+     * @param request   the new start and end time
+     * @return the rescheduled meeting
+     */
+    @Override
+    public MeetingResponseDTO rescheduleMeeting(Long meetingId, RescheduleRequestDTO request) {
+        if (request.getStartTime() == null || request.getEndTime() == null
+                || request.getStartTime().isAfter(request.getEndTime())) {
+            throw new IllegalArgumentException("Start time must be before end time.");
+        }
+
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Meeting not found with id " + meetingId));
+        List<Employee> participants = meeting.getParticipants();
+        List<Resource> resources = meeting.getResources() == null ? List.of() : meeting.getResources();
+
+        TimeRange oldRange = new TimeRange(meeting.getStartTime(), meeting.getEndTime());
+        TimeRange newRange = new TimeRange(request.getStartTime(), request.getEndTime());
+        if (oldRange.equals(newRange)) {
+            return toResponse(meeting, participants, resources);
+        }
+
+        // Recording the change first locks the participants' rows for the conflict check, like bookMeeting
+        List<CalendarSlot> slots = calendarSlotRepository.findByMeetingId(meetingId);
+        Map<Long, Long> sequenceByEmployeeId =
+                calendarSyncService.recordChanges(meetingId, slots, CalendarChangeType.UPDATED);
+
+        List<Long> participantIds = participants.stream().map(Employee::getId).toList();
+        List<Long> resourceIds = resources.stream().map(Resource::getId).toList();
+        if (!resourceIds.isEmpty()) {
+            resourceRepository.findAllByIdForUpdate(resourceIds);
+        }
+        for (TimeRange range : newRange.minus(oldRange)) {
+            List<Long> conflictedIds = calendarSlotRepository.findConflictingEmployeeIds(
+                    participantIds, range.startTime(), range.endTime(), meetingId);
+            if (!conflictedIds.isEmpty()) {
+                throw new ConflictException("Participants with IDs " + conflictedIds + " have a scheduling conflict.");
+            }
+            if (!resourceIds.isEmpty()) {
+                List<Long> bookedIds = meetingRepository.findBookedResourceIdsExcludingMeeting(
+                        resourceIds, range.startTime(), range.endTime(), meetingId);
+                if (!bookedIds.isEmpty()) {
+                    throw new ConflictException("Resources with IDs " + bookedIds + " are already booked.");
+                }
+            }
+        }
+
+        List<ResourceBooking> oldBookings = resourceBookingsOf(meeting);
+        meeting.setStartTime(request.getStartTime());
+        meeting.setEndTime(request.getEndTime());
+        calendarSlotRepository.updateTimesByMeetingId(meetingId, request.getStartTime(), request.getEndTime());
+        List<ResourceBooking> newBookings = resourceBookingsOf(meeting);
+
+        eventPublisher.publishEvent(new CalendarChangedEvent(meetingId, CalendarChangeType.UPDATED,
+                meeting.getOrganizerId(), meeting.getStartTime(), meeting.getEndTime(), sequenceByEmployeeId));
+        if (!oldBookings.isEmpty()) {
+            afterCommit(() -> {
+                oldBookings.forEach(resourceIntervalIndex::removeBooking);
+                newBookings.forEach(resourceIntervalIndex::addBooking);
+            });
+        }
+
+        return toResponse(meeting, participants, resources);
+    }
+
+    private static List<ResourceBooking> resourceBookingsOf(Meeting meeting) {
+        if (meeting.getResources() == null) {
+            return List.of();
+        }
+        return meeting.getResources().stream()
+                .map(resource -> new ResourceBooking(resource.getId(), meeting.getId(),
+                        meeting.getStartTime(), meeting.getEndTime()))
+                .toList();
+    }
+
+    private MeetingResponseDTO toResponse(Meeting meeting, List<Employee> participants, List<Resource> resources) {
         return MeetingResponseDTO.builder()
-                .id(savedMeeting.getId())
-                .topic(savedMeeting.getTopic())
-                .startTime(savedMeeting.getStartTime())
-                .endTime(savedMeeting.getEndTime())
+                .id(meeting.getId())
+                .topic(meeting.getTopic())
+                .startTime(meeting.getStartTime())
+                .endTime(meeting.getEndTime())
                 .participants(participants.stream()
                         .map(employee -> EmployeeResponseDTO.builder()
                                 .id(employee.getId())
@@ -121,9 +297,63 @@ public class MeetingServiceImpl implements MeetingService {
                                 .build())
                         .collect(Collectors.toList())
                 )
+                .resources(resources.stream()
+                        .map(ResourceServiceImpl::toResponse)
+                        .toList())
                 .build();
     }
 
+    /**
+     * Lock the requested resources and make sure they are large enough and not booked in the requested time range.
+     * Resource bookings are half-open, so a resource booked until the requested start is still available; the
+     * participant check treats touching meetings as a conflict.
+     *
+     * @param request       the booking request
+     * @param attendeeCount number of attendees, including the admin
+     * @return the locked resources, empty if none were requested
+     */
+    private List<Resource> lockAvailableResources(MeetingRequestDTO request, int attendeeCount) {
+        if (request.getResourceIds() == null || request.getResourceIds().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> resourceIds = new LinkedHashSet<>(request.getResourceIds());
+        List<Resource> resources = new ArrayList<>(resourceRepository.findAllByIdForUpdate(resourceIds));
+        if (resources.size() != resourceIds.size()) {
+            throw new ResourceNotFoundException("One or more resources not found.");
+        }
+
+        for (Resource resource : resources) {
+            if (resource.getType() == ResourceType.ROOM && resource.getCapacity() < attendeeCount) {
+                throw new ConflictException("Room " + resource.getName() + " has capacity " + resource.getCapacity()
+                        + " but the meeting has " + attendeeCount + " attendees.");
+            }
+        }
+
+        List<Long> bookedIds = meetingRepository.findBookedResourceIds(
+                resourceIds, request.getStartTime(), request.getEndTime());
+        if (!bookedIds.isEmpty()) {
+            throw new ConflictException("Resources with IDs " + bookedIds + " are already booked.");
+        }
+        return resources;
+    }
+
+    /**
+     * Run the action once the current transaction has committed, or right away when there is none.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
 
     /**
      * Find all employees with meeting conflicts for the requested time slot.
@@ -132,6 +362,8 @@ public class MeetingServiceImpl implements MeetingService {
      * @param durationMinutes    the duration of the requested meeting in minutes
      * @return List of employees with conflicting meetings
      */
+    @Transactional(readOnly = true)
+    @Override
     public List<Employee> findConflictedParticipants(LocalDateTime requestedStartTime, int durationMinutes) {
         List<Employee> conflictingParticipants = new ArrayList<>();
         LocalDateTime requestedEndTime = requestedStartTime.plusMinutes(durationMinutes);
@@ -152,59 +384,152 @@ public class MeetingServiceImpl implements MeetingService {
         return conflictingParticipants;
     }
 
+    /**
+     * Return the calendar slots of the employees that are free for the requested time slot.
+     * <p>
+     * Availability is computed in whole minutes. The requested start is truncated to its minute, and a
+     * booked meeting blocks every minute it touches, so a meeting ending at 10:00:30 blocks 10:00 - 10:01.
+     *
+     * @param employeeIds        the employees to check
+     * @param requestedStartTime the start of the requested time slot, truncated to the minute
+     * @param durationMinutes    the length of the requested time slot in minutes
+     * @return the available calendar slots
+     */
     @Transactional(readOnly = true)
-    // Check if the requested slot conflicts with any existing meeting
     @Override
     public List<CalendarSlotResponseDTO> getAvailableSlots(List<Long> employeeIds,
                                                            LocalDateTime requestedStartTime,
                                                            int durationMinutes) {
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+        EpochMinutes.checkSupported(requestedStartTime);
+        LocalDateTime windowStart = requestedStartTime.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime windowEnd = windowStart.plusMinutes(durationMinutes);
+        EpochMinutes.checkSupported(windowEnd);
         List<CalendarSlotResponseDTO> availableSlots = new ArrayList<>();
+        if (employeeIds.isEmpty()) {
+            return availableSlots;
+        }
 
-        // Calculate the requested end time based on the requested start time and duration
-        LocalDateTime requestedEndTime = requestedStartTime.plusMinutes(durationMinutes);
+        // Work in epoch minutes; LocalDateTime is only used again for the response
+        int requestedStart = EpochMinutes.floor(windowStart);
+        int requestedEnd = requestedStart + durationMinutes;
+        Map<Long, BusyIntervals> offHoursByEmployee =
+                workingHoursService.getOffHours(employeeIds, requestedStart, requestedEnd);
+
+        // Booked time of all employees around the requested time slot, in one projection query
+        Map<Long, BusyIntervals.Builder> busyByEmployee = new HashMap<>();
+        for (BusySlot busySlot : calendarSlotRepository.findBusySlots(employeeIds, windowStart, windowEnd)) {
+            busyByEmployee.computeIfAbsent(busySlot.employeeId(), id -> BusyIntervals.builder())
+                    .add(busySlot.startTime(), busySlot.endTime());
+        }
 
         // Loop through each employee's calendar slots to check availability
         for (Long employeeId : employeeIds) {
-            // Get the employee's calendar slots
             List<CalendarSlot> employeeSlots = calendarSlotRepository.findByEmployeeId(employeeId);
+            if (employeeSlots.isEmpty()) {
+                continue;
+            }
 
-            // For each calendar slot, check if it is available
-            for (CalendarSlot slot : employeeSlots) {
-                boolean isAvailable = true;
-
-                // Check if the slot is already occupied by a meeting
-                List<Meeting> meetings = meetingRepository.findByEmployeeId(employeeId);
-                for (Meeting meeting : meetings) {
-                    // Check if the meeting times overlap with the requested time slot
-                    if (meeting.getStartTime().isBefore(requestedEndTime) && meeting.getEndTime().isAfter(requestedStartTime)) {
-                        isAvailable = false; // There is an overlap with an existing meeting
-                        break;
-                    }
-                }
+            BusyIntervals.Builder busy = busyByEmployee.get(employeeId);
+            if (busy != null && busy.build().overlaps(requestedStart, requestedEnd)) {
+                continue; // There is an overlap with an existing meeting
+            }
+            BusyIntervals offHours = offHoursByEmployee.get(employeeId);
+            if (offHours != null && offHours.overlaps(requestedStart, requestedEnd)) {
+                continue; // The requested time slot is outside the employee's working hours
+            }
 
-                // If the slot is available, add it to the list
-                if (isAvailable) {
-                    // Ensure the calendar slot is within the requested time frame
-                    if (slot.getStartTime().isAfter(requestedStartTime) && slot.getStartTime().isAfter(requestedEndTime)
-                            || slot.getEndTime().isBefore(requestedStartTime) && slot.getEndTime().isBefore(requestedEndTime)) {
-                        slot.setAvailable(true);
-                        availableSlots.add(CalendarSlotResponseDTO.builder()
-                                .id(slot.getId())
-                                .employee(EmployeeResponseDTO.builder()
-                                        .id(slot.getEmployee().getId())
-                                        .name(slot.getEmployee().getName())
-                                        .email(slot.getEmployee().getEmail())
-                                        .build())
-                                .startTime(slot.getStartTime())
-                                .endTime(slot.getEndTime())
-                                .isAvailable(slot.isAvailable())
-                                .build()
-                        );
-                    }
+            // Every calendar slot lying completely before or after the requested time frame is available
+            for (CalendarSlot slot : employeeSlots) {
+                if (EpochMinutes.floor(slot.getStartTime()) > requestedEnd
+                        || EpochMinutes.ceil(slot.getEndTime()) < requestedStart) {
+                    slot.setAvailable(true);
+                    availableSlots.add(CalendarSlotResponseDTO.builder()
+                            .id(slot.getId())
+                            .employee(EmployeeResponseDTO.builder()
+                                    .id(slot.getEmployee().getId())
+                                    .name(slot.getEmployee().getName())
+                                    .email(slot.getEmployee().getEmail())
+                                    .build())
+                            .startTime(slot.getStartTime())
+                            .endTime(slot.getEndTime())
+                            .isAvailable(slot.isAvailable())
+                            .build()
+                    );
                 }
             }
         }
         return availableSlots;
     }
 
+    /**
+     * Rank the start times in the requested window by how many optional attendees are free,
+     * keeping only those that every required attendee can make.
+     *
+     * @param request the attendees, window, duration and ranking options
+     * @return the best slots, most free optional attendees first
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<SlotSuggestionResponseDTO> findOptimalSlots(GroupScheduleRequestDTO request) {
+        Set<Long> requiredIds = request.getRequiredIds() == null
+                ? Set.of() : new LinkedHashSet<>(request.getRequiredIds());
+        Set<Long> optionalIds = request.getOptionalIds() == null
+                ? new LinkedHashSet<>() : new LinkedHashSet<>(request.getOptionalIds());
+        optionalIds.removeAll(requiredIds);
+
+        // Validate request data
+        if (requiredIds.isEmpty() && optionalIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one attendee is required.");
+        }
+        if (request.getWindowStart() == null || request.getWindowEnd() == null
+                || !request.getWindowStart().isBefore(request.getWindowEnd())) {
+            throw new IllegalArgumentException("Window start must be before window end.");
+        }
+        EpochMinutes.checkSupported(request.getWindowStart());
+        EpochMinutes.checkSupported(request.getWindowEnd());
+        if (Duration.between(request.getWindowStart(), request.getWindowEnd()).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("Search window must not exceed " + MAX_SEARCH_WINDOW.toDays() + " days.");
+        }
+        if (request.getDurationMinutes() <= 0) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+        int stepMinutes = request.getStepMinutes() == null ? DEFAULT_STEP_MINUTES : request.getStepMinutes();
+        int topK = request.getTopK() == null ? DEFAULT_TOP_K : Math.min(request.getTopK(), MAX_TOP_K);
+        if (stepMinutes <= 0 || topK <= 0) {
+            throw new IllegalArgumentException("Step and topK must be positive.");
+        }
+
+        // Validate attendee IDs with a single query
+        Set<Long> attendeeIds = new HashSet<>(requiredIds);
+        attendeeIds.addAll(optionalIds);
+        Set<Long> invalidIds = new HashSet<>(attendeeIds);
+        invalidIds.removeAll(employeeRepository.findExistingIds(attendeeIds));
+        if (!invalidIds.isEmpty()) {
+            throw new EntityNotFoundException("Employees not found with IDs: " + invalidIds);
+        }
+
+        List<BusySlot> busySlots = calendarSlotRepository.findBusySlots(
+                attendeeIds, request.getWindowStart(), request.getWindowEnd());
+
+        Map<Long, BusyIntervals> offHours = workingHoursService.getOffHours(attendeeIds,
+                EpochMinutes.floor(request.getWindowStart()), EpochMinutes.ceil(request.getWindowEnd()));
+
+        return GroupSlotOptimizer.rank(busySlots, offHours, requiredIds, optionalIds,
+                        request.getWindowStart(), request.getWindowEnd(),
+                        request.getDurationMinutes(), stepMinutes, topK).stream()
+                .map(rankedSlot -> {
+                    LocalDateTime startTime = request.getWindowStart()
+                            .plusMinutes((long) rankedSlot.candidateIndex() * stepMinutes);
+                    return SlotSuggestionResponseDTO.builder()
+                            .startTime(startTime)
+                            .endTime(startTime.plusMinutes(request.getDurationMinutes()))
+                            .availableOptionalCount(rankedSlot.freeOptionalCount())
+                            .totalOptionalCount(optionalIds.size())
+                            .build();
+                })
+                .toList();
+    }
 }
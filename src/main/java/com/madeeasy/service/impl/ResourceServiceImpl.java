@@ -0,0 +1,104 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.request.ResourceRequestDTO;
+import com.madeeasy.dto.response.ResourceResponseDTO;
+import com.madeeasy.entity.Resource;
+import com.madeeasy.entity.ResourceType;
+import com.madeeasy.exception.ResourceNotFoundException;
+import com.madeeasy.repository.MeetingRepository;
+import com.madeeasy.repository.ResourceRepository;
+import com.madeeasy.scheduling.ResourceIntervalIndex;
+import com.madeeasy.service.ResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceServiceImpl implements ResourceService {
+
+    private final ResourceRepository resourceRepository;
+    private final MeetingRepository meetingRepository;
+    private final ResourceIntervalIndex resourceIntervalIndex;
+
+    /**
+     * Load all resources and their bookings into the interval index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        resourceRepository.findAll().forEach(resourceIntervalIndex::register);
+        meetingRepository.findAllResourceBookings().forEach(resourceIntervalIndex::addBooking);
+    }
+
+    @Override
+    public ResourceResponseDTO createResource(ResourceRequestDTO resource) {
+        if (resource.getType() == null) {
+            throw new IllegalArgumentException("Resource type is required.");
+        }
+        if (resource.getCapacity() <= 0) {
+            throw new IllegalArgumentException("Resource capacity must be positive.");
+        }
+
+        Resource newResource = Resource.builder()
+                .name(resource.getName())
+                .type(resource.getType())
+                .capacity(resource.getCapacity())
+                .build();
+
+        Resource savedResource = this.resourceRepository.save(newResource);
+        resourceIntervalIndex.register(savedResource);
+
+        return toResponse(savedResource);
+    }
+
+    @Override
+    public ResourceResponseDTO getResourceById(Long id) {
+        Resource foundResourceById = resourceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found with id " + id));
+
+        return toResponse(foundResourceById);
+    }
+
+    @Override
+    public List<ResourceResponseDTO> getAllResources() {
+        return resourceRepository.findAll().stream()
+                .map(ResourceServiceImpl::toResponse)
+                .toList();
+    }
+
+    /**
+     * Find resources of a type with at least the given capacity that are free for the whole time range,
+     * smallest sufficient capacity first. Only the matching resources are loaded from the database.
+     */
+    @Override
+    public List<ResourceResponseDTO> findFreeResources(ResourceType type, int minCapacity,
+                                                       LocalDateTime startTime, int durationMinutes, int limit) {
+        if (durationMinutes <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Duration and limit must be positive.");
+        }
+
+        List<Long> freeResourceIds = resourceIntervalIndex.findFree(
+                type, minCapacity, startTime, startTime.plusMinutes(durationMinutes), limit);
+
+        return resourceRepository.findAllById(freeResourceIds).stream()
+                .sorted(Comparator.comparingInt(resource -> freeResourceIds.indexOf(resource.getId())))
+                .map(ResourceServiceImpl::toResponse)
+                .toList();
+    }
+
+    static ResourceResponseDTO toResponse(Resource resource) {
+        return ResourceResponseDTO.builder()
+                .id(resource.getId())
+                .name(resource.getName())
+                .type(resource.getType())
+                .capacity(resource.getCapacity())
+                .build();
+    }
+}
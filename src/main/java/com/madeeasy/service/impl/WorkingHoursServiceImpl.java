@@ -0,0 +1,169 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.entity.Employee;
+import com.madeeasy.entity.WorkingHours;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.EpochMinutes;
+import com.madeeasy.scheduling.WorkingHoursCalendar;
+import com.madeeasy.service.WorkingHoursService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the off hours of every employee over a rolling horizon.
+ * <p>
+ * The off hours are computed from the employee's working hours once, covering the horizon from
+ * yesterday on, and reused by every free-slot query inside it. DST transitions within the horizon
+ * are part of that computation. An entry is only computed again when the employee's working hours
+ * change or a query reaches past its horizon. Queries far outside the horizon are computed for just
+ * the requested range and not cached, so they never displace the horizon entry. The cache holds at
+ * most {@code app.scheduling.working-hours.cache-size} employees.
+ * <p>
+ * Working hours are loaded from the primary in a short transaction of their own, since a row read
+ * from a lagging replica would stay cached until the employee's next change. An eviction takes effect
+ * when the changing transaction commits, and a load that overlaps it is used once but not cached.
+ */
+@Service
+public class WorkingHoursServiceImpl implements WorkingHoursService {
+
+    /**
+     * Cached off hours for {@code [from, to)}; {@code offHours} is {@code null} for employees without working hours.
+     */
+    private record CachedOffHours(int from, int to, BusyIntervals offHours) {
+
+        boolean covers(int rangeFrom, int rangeTo) {
+            return offHours == null || from <= rangeFrom && rangeTo <= to;
+        }
+    }
+
+    private static final CachedOffHours ALWAYS_AVAILABLE = new CachedOffHours(Integer.MIN_VALUE, Integer.MAX_VALUE, null);
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate primaryRead;
+    private final int horizonMinutes;
+    private final int cacheSize;
+
+    private final Map<Long, CachedOffHours> cache = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public WorkingHoursServiceImpl(EmployeeRepository employeeRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.scheduling.working-hours.horizon:92d}") Duration horizon,
+                                   @Value("${app.scheduling.working-hours.cache-size:10000}") int cacheSize) {
+        this.employeeRepository = employeeRepository;
+        // Not read-only and not joining the caller's read-only transaction, so it runs on the primary
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.horizonMinutes = Math.toIntExact(horizon.toMinutes());
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public Map<Long, BusyIntervals> getOffHours(Collection<Long> employeeIds, int fromEpochMinute, int toEpochMinute) {
+        Map<Long, BusyIntervals> offHoursByEmployee = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            CachedOffHours cached = cache.get(employeeId);
+            if (cached == null || !cached.covers(fromEpochMinute, toEpochMinute)) {
+                missingIds.add(employeeId);
+            } else if (cached.offHours() != null) {
+                offHoursByEmployee.put(employeeId, cached.offHours());
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return offHoursByEmployee;
+        }
+
+        // An entry computed from settings read before an eviction must not be cached
+        long evictionsBeforeLoad = evictions.get();
+        int horizonStart = EpochMinutes.floor(LocalDate.now(ZoneOffset.UTC).minusDays(1).atStartOfDay());
+        int horizonEnd = horizonStart + horizonMinutes;
+        Map<Long, CachedOffHours> loaded = new HashMap<>();
+        List<Employee> employees = primaryRead.execute(status -> employeeRepository.findAllById(missingIds));
+        for (Employee employee : employees) {
+            loaded.put(employee.getId(), compute(employee.getWorkingHours(), horizonStart, fromEpochMinute, toEpochMinute));
+        }
+        for (Long employeeId : missingIds) {
+            CachedOffHours entry = loaded.getOrDefault(employeeId, ALWAYS_AVAILABLE);
+            if (entry.offHours() != null) {
+                offHoursByEmployee.put(employeeId, entry.offHours());
+            }
+            // Entries for a range far outside the horizon are used once and dropped
+            if (entry.covers(horizonStart, horizonEnd) && evictions.get() == evictionsBeforeLoad) {
+                if (cache.size() >= cacheSize && !cache.containsKey(employeeId)) {
+                    Iterator<Long> cachedIds = cache.keySet().iterator();
+                    if (cachedIds.hasNext()) {
+                        cachedIds.next();
+                        cachedIds.remove();
+                    }
+                }
+                // Checked again under the key's lock, so an eviction can't slip in between check and put
+                cache.compute(employeeId, (id, current) -> evictions.get() == evictionsBeforeLoad ? entry : current);
+            }
+        }
+        return offHoursByEmployee;
+    }
+
+    /**
+     * Drop the cached off hours of an employee once the current transaction commits, or at once
+     * outside a transaction. Evicting before the commit would let a concurrent query cache the old
+     * working hours again.
+     *
+     * @param employeeId the employee whose working hours changed
+     */
+    @Override
+    public void evict(Long employeeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(employeeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(employeeId);
+            }
+        });
+    }
+
+    private void evictNow(Long employeeId) {
+        cache.compute(employeeId, (id, current) -> {
+            evictions.incrementAndGet();
+            return null;
+        });
+    }
+
+    private CachedOffHours compute(WorkingHours workingHours, int horizonStart, int fromEpochMinute, int toEpochMinute) {
+        if (workingHours == null || workingHours.getTimeZone() == null) {
+            return ALWAYS_AVAILABLE;
+        }
+        int from = Math.min(fromEpochMinute, horizonStart);
+        int to = Math.max(toEpochMinute, horizonStart + horizonMinutes);
+        if ((long) to - from > 2L * horizonMinutes) {
+            // Far outside the horizon: compute just the requested range
+            from = fromEpochMinute;
+            to = toEpochMinute;
+        }
+        BusyIntervals offHours = WorkingHoursCalendar.offHours(ZoneId.of(workingHours.getTimeZone()),
+                workingHours.getWorkdayStart(), workingHours.getWorkdayEnd(), workingHours.getWorkingDays(), from, to);
+        return new CachedOffHours(from, to, offHours);
+    }
+}
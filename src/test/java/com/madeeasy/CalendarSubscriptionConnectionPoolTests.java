@@ -0,0 +1,90 @@
+package com.madeeasy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Open calendar subscriptions must not hold pooled connections, so more subscribers than the pool
+ * has connections can't starve bookings.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:subscription_pool_db;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "spring.jpa.show-sql=false"})
+class CalendarSubscriptionConnectionPoolTests {
+
+    private static final int SUBSCRIPTIONS = 6;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<HttpResponse<InputStream>> subscriptions = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (HttpResponse<InputStream> subscription : subscriptions) {
+            subscription.body().close();
+        }
+    }
+
+    @Test
+    void bookMeeting_MoreSubscriptionsThanPoolConnections_Completes() throws Exception {
+        long adminId = createEmployee("admin");
+        long participantId = createEmployee("participant");
+
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            HttpResponse<InputStream> subscription = client.send(
+                    request("/api/calendar/subscribe?employeeIds=" + participantId).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            assertEquals(200, subscription.statusCode());
+            subscriptions.add(subscription);
+        }
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        HttpResponse<String> booking = client.send(post("/api/meetings/book", "{\"adminId\":" + adminId
+                + ",\"topic\":\"Pool test\""
+                + ",\"startTime\":\"" + start + "\""
+                + ",\"endTime\":\"" + start.plusMinutes(30) + "\""
+                + ",\"participantIds\":[" + participantId + "]}"), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, booking.statusCode(), booking.body());
+    }
+
+    private long createEmployee(String name) throws Exception {
+        HttpResponse<String> response = client.send(post("/api/employees/create",
+                "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}"), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(10));
+    }
+}
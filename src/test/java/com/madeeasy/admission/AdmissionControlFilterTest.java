@@ -0,0 +1,136 @@
+package com.madeeasy.admission;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    @Test
+    void laneOf_ClassifiesEndpoints() {
+        assertEquals(AdmissionLane.BOOKING, AdmissionControlFilter.laneOf("POST", "/api/meetings/book"));
+        assertEquals(AdmissionLane.BOOKING, AdmissionControlFilter.laneOf("DELETE", "/api/meetings/7"));
+        assertEquals(AdmissionLane.SCAN, AdmissionControlFilter.laneOf("GET", "/api/meetings/free-slots"));
+        assertEquals(AdmissionLane.SCAN, AdmissionControlFilter.laneOf("POST", "/api/meetings/conflicts"));
+        assertEquals(AdmissionLane.SCAN, AdmissionControlFilter.laneOf("GET", "/api/meetings/heatmap"));
+        assertEquals(AdmissionLane.READ, AdmissionControlFilter.laneOf("GET", "/api/employees/7"));
+        assertEquals(AdmissionLane.READ, AdmissionControlFilter.laneOf("GET", "/api/calendar/sync/7"));
+        assertEquals(AdmissionLane.READ, AdmissionControlFilter.laneOf("GET", "/api/resources/free"));
+        assertEquals(AdmissionLane.BOOKING, AdmissionControlFilter.laneOf("POST", "/api/resources/create"));
+    }
+
+    @Test
+    void doFilter_CallerOverRate_Returns429WithRetryAfter() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setCallerRatePerSecond(1);
+        properties.setCallerBurst(2);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        assertEquals(200, send(filter, request("GET", "/api/employees/1", "1"), new MockFilterChain()).getStatus());
+        assertEquals(200, send(filter, request("GET", "/api/employees/1", "1"), new MockFilterChain()).getStatus());
+        MockHttpServletResponse rejected = send(filter, request("GET", "/api/employees/1", "1"), new MockFilterChain());
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        // Other callers have their own bucket
+        assertEquals(200, send(filter, request("GET", "/api/employees/1", "2"), new MockFilterChain()).getStatus());
+        assertEquals(1, filter.getStats().get(AdmissionLane.READ.ordinal()).getRateLimited());
+    }
+
+    @Test
+    void doFilter_CallerRotatesEmployeeIdHeader_SameBucket() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setCallerRatePerSecond(1);
+        properties.setCallerBurst(1);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        MockHttpServletRequest first = request("GET", "/api/employees/1", "1");
+        first.addHeader("X-Employee-Id", "100");
+        MockHttpServletRequest second = request("GET", "/api/employees/1", "1");
+        second.addHeader("X-Employee-Id", "101");
+
+        assertEquals(200, send(filter, first, new MockFilterChain()).getStatus());
+        assertEquals(429, send(filter, second, new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void callerOf_AuthenticatedPrincipal_PreferredOverAddress() {
+        MockHttpServletRequest request = request("GET", "/api/employees/1", "1");
+        assertEquals("address:10.0.0.1", AdmissionControlFilter.callerOf(request));
+
+        request.setUserPrincipal(() -> "alice");
+        assertEquals("principal:alice", AdmissionControlFilter.callerOf(request));
+    }
+
+    @Test
+    void doFilter_ScanLaneFull_ShedsWith503ButAdmitsBooking() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setScan(new AdmissionProperties.Lane(1, 0, Duration.ZERO));
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        // While the only scan permit is held, a second scan is shed and a booking still gets through
+        AtomicReference<MockHttpServletResponse> secondScan = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> booking = new AtomicReference<>();
+        FilterChain holdingScan = (request, response) -> {
+            secondScan.set(send(filter, request("GET", "/api/meetings/free-slots", "2"), new MockFilterChain()));
+            booking.set(send(filter, request("POST", "/api/meetings/book", "3"), new MockFilterChain()));
+        };
+
+        MockHttpServletResponse firstScan = send(filter, request("GET", "/api/meetings/free-slots", "1"), holdingScan);
+
+        assertEquals(200, firstScan.getStatus());
+        assertEquals(503, secondScan.get().getStatus());
+        assertNotNull(secondScan.get().getHeader("Retry-After"));
+        assertEquals(200, booking.get().getStatus());
+        assertEquals(1, filter.getStats().get(AdmissionLane.SCAN.ordinal()).getShed());
+        assertEquals(0, filter.getStats().get(AdmissionLane.SCAN.ordinal()).getInFlight());
+    }
+
+    @Test
+    void doFilter_CalendarAndResourcePaths_Limited() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setCallerRatePerSecond(1);
+        properties.setCallerBurst(2);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        assertEquals(200, send(filter, request("GET", "/api/calendar/sync/1", "1"), new MockFilterChain()).getStatus());
+        assertEquals(200, send(filter, request("GET", "/api/resources/1", "1"), new MockFilterChain()).getStatus());
+        assertEquals(429, send(filter, request("GET", "/api/calendar/subscribe", "1"), new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void doFilter_AdmissionStats_NotLimited() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setCallerRatePerSecond(1);
+        properties.setCallerBurst(1);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(filter, request("GET", "/api/admission/stats", "1"), new MockFilterChain()).getStatus());
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String caller) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0." + caller);
+        return request;
+    }
+
+    private static MockHttpServletResponse send(AdmissionControlFilter filter, MockHttpServletRequest request,
+                                                FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,79 @@
+package com.madeeasy.benchmark;
+
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.EpochMinutes;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conflict check of a requested time slot against one calendar, with {@link LocalDateTime} pairs
+ * and with packed {@link BusyIntervals}. Run with {@code -prof gc} to compare the bytes allocated
+ * per check, e.g. {@code -Dbenchmark.args="ConflictCheckBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    private static final int REQUESTS = 1024;
+    private static final int DURATION_MINUTES = 30;
+
+    @Param({"10", "100", "1000"})
+    private int meetings;
+
+    private List<LocalDateTime[]> meetingTimes;
+    private BusyIntervals busy;
+    private LocalDateTime[] requestedStartTimes;
+    private int[] requestedStarts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime monday = LocalDateTime.of(2024, 11, 4, 9, 0);
+        int days = Math.max(1, meetings / 4);
+
+        meetingTimes = new ArrayList<>(meetings);
+        BusyIntervals.Builder builder = BusyIntervals.builder();
+        for (int i = 0; i < meetings; i++) {
+            LocalDateTime start = monday.plusDays(random.nextInt(days)).plusMinutes(15L * random.nextInt(32));
+            LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(3)));
+            meetingTimes.add(new LocalDateTime[]{start, end});
+            builder.add(start, end);
+        }
+        busy = builder.build();
+
+        requestedStartTimes = new LocalDateTime[REQUESTS];
+        requestedStarts = new int[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requestedStartTimes[i] = monday.plusDays(random.nextInt(days)).plusMinutes(15L * random.nextInt(32));
+            requestedStarts[i] = EpochMinutes.floor(requestedStartTimes[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean localDateTime() {
+        LocalDateTime requestedStartTime = requestedStartTimes[next++ & (REQUESTS - 1)];
+        LocalDateTime requestedEndTime = requestedStartTime.plusMinutes(DURATION_MINUTES);
+        for (LocalDateTime[] meeting : meetingTimes) {
+            if (meeting[0].isBefore(requestedEndTime) && meeting[1].isAfter(requestedStartTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean epochMinutes() {
+        int requestedStart = requestedStarts[next++ & (REQUESTS - 1)];
+        return busy.overlaps(requestedStart, requestedStart + DURATION_MINUTES);
+    }
+}
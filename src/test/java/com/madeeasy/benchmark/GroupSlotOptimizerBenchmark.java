@@ -0,0 +1,60 @@
+package com.madeeasy.benchmark;
+
+import com.madeeasy.scheduling.BusySlot;
+import com.madeeasy.scheduling.GroupSlotOptimizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking of the best start times for a group over a month, with a fifth of the attendees required
+ * and four meetings per attendee and day, e.g. {@code -Dbenchmark.args="GroupSlotOptimizerBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupSlotOptimizerBenchmark {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2024, 11, 4, 0, 0);
+    private static final int DAYS = 30;
+
+    @Param({"50", "500"})
+    private int attendees;
+
+    private List<BusySlot> busySlots;
+    private Set<Long> requiredIds;
+    private Set<Long> optionalIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        busySlots = new ArrayList<>();
+        requiredIds = new HashSet<>();
+        optionalIds = new HashSet<>();
+        for (long id = 1; id <= attendees; id++) {
+            (id <= attendees / 5 ? requiredIds : optionalIds).add(id);
+            for (int day = 0; day < DAYS; day++) {
+                for (int meeting = 0; meeting < 4; meeting++) {
+                    LocalDateTime start = WINDOW_START.plusDays(day).plusHours(9).plusMinutes(15L * random.nextInt(32));
+                    busySlots.add(new BusySlot(id, start, start.plusMinutes(30L * (1 + random.nextInt(3)))));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public List<GroupSlotOptimizer.RankedSlot> rank() {
+        return GroupSlotOptimizer.rank(busySlots, Map.of(), requiredIds, optionalIds,
+                WINDOW_START, WINDOW_START.plusDays(DAYS), 60, 15, 10);
+    }
+}
@@ -0,0 +1,134 @@
+package com.madeeasy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.madeeasy.config.CompactEncodingConfig;
+import com.madeeasy.dto.response.CalendarSlotResponseDTO;
+import com.madeeasy.dto.response.EmployeeResponseDTO;
+import com.madeeasy.dto.response.MeetingResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost and size of a large {@link MeetingResponseDTO} in each supported encoding.
+ * The encoded and gzipped sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetingPayloadEncodingBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int participants;
+
+    @Param({"50"})
+    private int slotsPerParticipant;
+
+    private MeetingResponseDTO meeting;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        meeting = largeMeeting(participants, slotsPerParticipant);
+        // Same as the application's JSON: ISO-8601 timestamps
+        jsonMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cborMapper = CompactEncodingConfig.compactMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        smileMapper = CompactEncodingConfig.compactMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+
+        System.out.printf("%nBytes on the wire for %d participants x %d slots:%n", participants, slotsPerParticipant);
+        printSize("json", jsonMapper.writeValueAsBytes(meeting));
+        printSize("cbor", cborMapper.writeValueAsBytes(meeting));
+        printSize("smile", smileMapper.writeValueAsBytes(meeting));
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(meeting);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(jsonMapper.writeValueAsBytes(meeting));
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(meeting);
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cborMapper.writeValueAsBytes(meeting));
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smileMapper.writeValueAsBytes(meeting);
+    }
+
+    @Benchmark
+    public byte[] smileGzip() throws IOException {
+        return gzip(smileMapper.writeValueAsBytes(meeting));
+    }
+
+    private static void printSize(String format, byte[] encoded) throws IOException {
+        System.out.printf("  %-6s %,12d bytes, %,12d bytes gzipped%n", format, encoded.length, gzip(encoded).length);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    static MeetingResponseDTO largeMeeting(int participants, int slotsPerParticipant) {
+        LocalDateTime start = LocalDateTime.of(2024, 11, 4, 9, 0);
+        List<EmployeeResponseDTO> employees = new ArrayList<>(participants);
+        long slotId = 1;
+        for (int i = 1; i <= participants; i++) {
+            List<CalendarSlotResponseDTO> slots = new ArrayList<>(slotsPerParticipant);
+            for (int j = 0; j < slotsPerParticipant; j++) {
+                LocalDateTime slotStart = start.plusDays(j / 4).plusHours(2L * (j % 4));
+                slots.add(CalendarSlotResponseDTO.builder()
+                        .id(slotId++)
+                        .startTime(slotStart)
+                        .endTime(slotStart.plusMinutes(30))
+                        .isAvailable(false)
+                        .build());
+            }
+            employees.add(EmployeeResponseDTO.builder()
+                    .id((long) i)
+                    .name("Employee " + i)
+                    .email("employee" + i + "@example.com")
+                    .calendarSlots(slots)
+                    .build());
+        }
+        return MeetingResponseDTO.builder()
+                .id(1L)
+                .topic("All hands")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .participants(employees)
+                .resources(List.of())
+                .build();
+    }
+}
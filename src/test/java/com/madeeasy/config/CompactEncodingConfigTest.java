@@ -0,0 +1,67 @@
+package com.madeeasy.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.madeeasy.dto.request.RescheduleRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactEncodingConfigTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 4, 9, 30, 15, 123_000_000);
+
+    private final TimeZone defaultTimeZone = TimeZone.getDefault();
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void cbor_LocalDateTime_RoundTripsAsUtcEpochMillis() throws Exception {
+        // The encoding must not depend on the zone of the JVM
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        ObjectMapper mapper = CompactEncodingConfig.compactMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+
+        byte[] bytes = mapper.writeValueAsBytes(new RescheduleRequestDTO(START, START.plusHours(1)));
+
+        JsonNode tree = mapper.readTree(bytes);
+        assertTrue(tree.get("startTime").isIntegralNumber());
+        assertEquals(START.toInstant(ZoneOffset.UTC).toEpochMilli(), tree.get("startTime").longValue());
+        assertEquals(new RescheduleRequestDTO(START, START.plusHours(1)),
+                mapper.readValue(bytes, RescheduleRequestDTO.class));
+    }
+
+    @Test
+    void smile_LocalDateTime_RoundTripsAsUtcEpochMillis() throws Exception {
+        ObjectMapper mapper = CompactEncodingConfig.compactMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+
+        byte[] bytes = mapper.writeValueAsBytes(new RescheduleRequestDTO(START, START.plusHours(1)));
+
+        assertEquals(START.toInstant(ZoneOffset.UTC).toEpochMilli(), mapper.readTree(bytes).get("startTime").longValue());
+        assertEquals(new RescheduleRequestDTO(START, START.plusHours(1)),
+                mapper.readValue(bytes, RescheduleRequestDTO.class));
+    }
+
+    @Test
+    void cbor_IsoStringTimestamp_StillAccepted() throws Exception {
+        ObjectMapper mapper = CompactEncodingConfig.compactMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+
+        byte[] bytes = mapper.writeValueAsBytes(Map.of(
+                "startTime", "2024-11-04T09:30:15.123",
+                "endTime", "2024-11-04T10:30:15.123"));
+
+        assertEquals(new RescheduleRequestDTO(START, START.plusHours(1)),
+                mapper.readValue(bytes, RescheduleRequestDTO.class));
+    }
+}
@@ -0,0 +1,79 @@
+package com.madeeasy.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        // Two separate in-memory databases, each knowing its own name
+        DataSource primary = database("routing_primary");
+        DataSource replica = database("routing_replica");
+
+        DataSource dataSource = ReplicaRoutingDataSource.create(primary, replica);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearForcedPrimary();
+    }
+
+    @Test
+    void readOnlyTransaction_RunsOnReplica() {
+        assertEquals("routing_replica", readOnly.execute(status -> databaseName()));
+    }
+
+    @Test
+    void readWriteTransaction_RunsOnPrimary() {
+        assertEquals("routing_primary", readWrite.execute(status -> databaseName()));
+    }
+
+    @Test
+    void noTransaction_RunsOnPrimary() {
+        assertEquals("routing_primary", databaseName());
+    }
+
+    @Test
+    void forcedPrimary_ReadOnlyTransactionRunsOnPrimary() {
+        ReplicaRoutingDataSource.forcePrimary();
+
+        assertEquals("routing_primary", readOnly.execute(status -> databaseName()));
+
+        ReplicaRoutingDataSource.clearForcedPrimary();
+
+        assertEquals("routing_replica", readOnly.execute(status -> databaseName()));
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS database_name (name VARCHAR(64))");
+        jdbcTemplate.update("DELETE FROM database_name");
+        jdbcTemplate.update("INSERT INTO database_name (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
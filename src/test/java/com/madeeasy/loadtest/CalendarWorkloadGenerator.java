@@ -0,0 +1,266 @@
+package com.madeeasy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds employees and meetings through the REST API and generates a weighted mix of requests.
+ * <p>
+ * Employees are grouped into teams and meetings are booked within a team, during working hours on
+ * working days, on quarter-hour boundaries. That gives each calendar a realistic density and makes
+ * a share of the bookings collide, the way they do in practice.
+ */
+public class CalendarWorkloadGenerator {
+
+    public enum Operation {
+        BOOK,
+        FREE_SLOTS,
+        CONFLICTS,
+        EMPLOYEE_READ
+    }
+
+    public record WorkloadRequest(Operation operation, HttpRequest request) {
+    }
+
+    /**
+     * Outcome of seeding the meetings.
+     *
+     * @param booked     meetings that were booked
+     * @param conflicted meetings that collided with earlier bookings
+     * @param shed       meetings the server still shed with {@code 429}/{@code 503} after all retries
+     */
+    public record SeedResult(int booked, int conflicted, int shed) {
+    }
+
+    private static final int[] DURATIONS_MINUTES = {30, 30, 30, 60, 60, 90};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Stays below the booking lane's max-concurrent, so seeding is not shed by admission control
+    private static final int SEED_CONCURRENCY = 8;
+    private static final int SEED_MAX_ATTEMPTS = 10;
+    private static final Duration SEED_MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<LocalDate> workingDays = new ArrayList<>();
+    private final int totalWeight;
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final Map<Long, Integer> indexByEmployeeId = new HashMap<>();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    public CalendarWorkloadGenerator(HttpClient client, String baseUrl, LoadTestOptions options) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.totalWeight = options.bookWeight() + options.freeSlotsWeight()
+                + options.conflictsWeight() + options.employeeReadWeight();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("At least one request weight must be positive.");
+        }
+
+        LocalDate day = LocalDate.now().plusDays(1);
+        while (workingDays.size() < options.days()) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                workingDays.add(day);
+            }
+            day = day.plusDays(1);
+        }
+    }
+
+    /**
+     * Create the employees and book {@code meetingsPerEmployee} meetings for each of them.
+     * <p>
+     * At most {@value #SEED_CONCURRENCY} seed requests are in flight at a time, and requests the server
+     * sheds with {@code 429} or {@code 503} are retried with backoff, honouring {@code Retry-After}.
+     * That keeps seeding within the admission limits of the server, including the per-caller rate
+     * limit of an external instance, which applies to all seed requests together.
+     */
+    public SeedResult seed() throws Exception {
+        Semaphore inFlight = new Semaphore(SEED_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> created = new ArrayList<>(options.employees());
+            for (int i = 0; i < options.employees(); i++) {
+                String body = "{\"name\":\"Load Test " + i + "\",\"email\":\"load.test." + i + "."
+                        + runId + "@example.com\"}";
+                created.add(executor.submit(() -> createEmployee(inFlight, body)));
+            }
+            for (Future<Long> id : created) {
+                indexByEmployeeId.put(id.get(), employeeIds.size());
+                employeeIds.add(id.get());
+            }
+
+            AtomicInteger booked = new AtomicInteger();
+            AtomicInteger conflicted = new AtomicInteger();
+            AtomicInteger shed = new AtomicInteger();
+            List<Future<?>> bookings = new ArrayList<>();
+            for (int i = 0; i < options.employees(); i++) {
+                Random random = new Random(options.seed() + i);
+                int organizer = i;
+                bookings.add(executor.submit(() -> {
+                    for (int j = 0; j < options.meetingsPerEmployee(); j++) {
+                        HttpRequest request = bookRequest(random, employeeIds.get(organizer));
+                        int status = sendSeedRequest(inFlight, request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status / 100 == 2) {
+                            booked.incrementAndGet();
+                        } else if (isShed(status)) {
+                            shed.incrementAndGet();
+                        } else {
+                            conflicted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> booking : bookings) {
+                booking.get();
+            }
+            return new SeedResult(booked.get(), conflicted.get(), shed.get());
+        }
+    }
+
+    /**
+     * Pick the next request according to the configured mix.
+     */
+    public WorkloadRequest next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        if ((pick -= options.bookWeight()) < 0) {
+            return new WorkloadRequest(Operation.BOOK, bookRequest(random, randomEmployee(random)));
+        }
+        if ((pick -= options.freeSlotsWeight()) < 0) {
+            String ids = teamMembers(random, randomEmployee(random), 2 + random.nextInt(4)).stream()
+                    .map(id -> "employeeIds=" + id)
+                    .collect(Collectors.joining("&"));
+            return new WorkloadRequest(Operation.FREE_SLOTS, get("/api/meetings/free-slots?" + ids
+                    + "&requestedStartTime=" + randomStart(random) + "&durationMinutes=" + randomDuration(random)));
+        }
+        if ((pick -= options.conflictsWeight()) < 0) {
+            return new WorkloadRequest(Operation.CONFLICTS, post("/api/meetings/conflicts?requestedStartTime="
+                    + randomStart(random) + "&durationMinutes=" + randomDuration(random), ""));
+        }
+        return new WorkloadRequest(Operation.EMPLOYEE_READ, get("/api/employees/" + randomEmployee(random)));
+    }
+
+    private Long createEmployee(Semaphore inFlight, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = sendSeedRequest(inFlight, post("/api/employees/create", body),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Creating employee failed with " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode employee = objectMapper.readTree(response.body());
+        return employee.get("id").asLong();
+    }
+
+    /**
+     * Send a seed request once a permit of {@code inFlight} is free, retrying while the server sheds it.
+     * The last response is returned, shed or not.
+     */
+    private <T> HttpResponse<T> sendSeedRequest(Semaphore inFlight, HttpRequest request,
+                                                HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        Duration backoff = Duration.ofMillis(100);
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<T> response;
+            inFlight.acquire();
+            try {
+                response = client.send(request, bodyHandler);
+            } finally {
+                inFlight.release();
+            }
+            if (!isShed(response.statusCode()) || attempt == SEED_MAX_ATTEMPTS) {
+                return response;
+            }
+            Duration retryAfter = response.headers().firstValueAsLong("Retry-After").stream()
+                    .mapToObj(Duration::ofSeconds)
+                    .findFirst()
+                    .orElse(Duration.ZERO);
+            Thread.sleep(retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff);
+            Duration doubled = backoff.multipliedBy(2);
+            backoff = doubled.compareTo(SEED_MAX_BACKOFF) > 0 ? SEED_MAX_BACKOFF : doubled;
+        }
+    }
+
+    private static boolean isShed(int status) {
+        return status == 429 || status == 503;
+    }
+
+    private HttpRequest bookRequest(Random random, Long adminId) {
+        LocalDateTime start = randomStart(random);
+        int participants = 1 + random.nextInt(4);
+        String participantIds = teamMembers(random, adminId, participants + 1).stream()
+                .filter(id -> !id.equals(adminId))
+                .limit(participants)
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        if (participantIds.isEmpty()) {
+            participantIds = String.valueOf(randomEmployee(random));
+        }
+        String body = "{\"adminId\":" + adminId
+                + ",\"topic\":\"Load test\""
+                + ",\"startTime\":\"" + start + "\""
+                + ",\"endTime\":\"" + start.plusMinutes(randomDuration(random)) + "\""
+                + ",\"participantIds\":[" + participantIds + "]}";
+        return post("/api/meetings/book", body);
+    }
+
+    private List<Long> teamMembers(Random random, Long employeeId, int count) {
+        int index = indexByEmployeeId.get(employeeId);
+        int teamStart = index - index % options.teamSize();
+        int teamEnd = Math.min(teamStart + options.teamSize(), employeeIds.size());
+        List<Long> members = new ArrayList<>(employeeIds.subList(teamStart, teamEnd));
+        Collections.shuffle(members, random);
+        return members.subList(0, Math.min(count, members.size()));
+    }
+
+    private Long randomEmployee(Random random) {
+        return employeeIds.get(random.nextInt(employeeIds.size()));
+    }
+
+    private LocalDateTime randomStart(Random random) {
+        LocalDate day = workingDays.get(random.nextInt(workingDays.size()));
+        // 9:00 to 16:45 in quarter-hour steps
+        return LocalDateTime.of(day, LocalTime.of(9, 0).plusMinutes(15L * random.nextInt(32)));
+    }
+
+    private static int randomDuration(Random random) {
+        return DURATIONS_MINUTES[random.nextInt(DURATIONS_MINUTES.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
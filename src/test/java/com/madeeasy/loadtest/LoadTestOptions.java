@@ -0,0 +1,71 @@
+package com.madeeasy.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, parsed from {@code key=value} arguments.
+ *
+ * @param baseUrl             URL of a running application, or {@code null} to start one in-process
+ * @param employees           number of employees to seed
+ * @param teamSize            employees per team; meetings are booked within a team
+ * @param meetingsPerEmployee meetings each employee organizes while seeding
+ * @param days                number of working days the seeded meetings are spread over
+ * @param concurrency         number of concurrent clients
+ * @param ratePerSecond       target request rate for all clients together, {@code 0} for as fast as possible
+ * @param duration            how long to fire requests
+ * @param bookWeight          share of {@code /book} requests in the mix
+ * @param freeSlotsWeight     share of {@code /free-slots} requests in the mix
+ * @param conflictsWeight     share of {@code /conflicts} requests in the mix
+ * @param employeeReadWeight  share of employee reads in the mix
+ * @param soak                whether to sample heap usage while the test runs (in-process only)
+ * @param sampleEvery         interval between heap samples in soak mode
+ * @param seed                random seed, so runs are repeatable
+ */
+public record LoadTestOptions(String baseUrl,
+                              int employees,
+                              int teamSize,
+                              int meetingsPerEmployee,
+                              int days,
+                              int concurrency,
+                              int ratePerSecond,
+                              Duration duration,
+                              int bookWeight,
+                              int freeSlotsWeight,
+                              int conflictsWeight,
+                              int employeeReadWeight,
+                              boolean soak,
+                              Duration sampleEvery,
+                              long seed) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        boolean soak = Boolean.parseBoolean(values.getOrDefault("soak", "false"));
+        return new LoadTestOptions(
+                values.get("baseUrl"),
+                Integer.parseInt(values.getOrDefault("employees", "200")),
+                Integer.parseInt(values.getOrDefault("teamSize", "8")),
+                Integer.parseInt(values.getOrDefault("meetingsPerEmployee", "10")),
+                Integer.parseInt(values.getOrDefault("days", "10")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("rate", "0")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", soak ? "4h" : "60s")),
+                Integer.parseInt(values.getOrDefault("book", "20")),
+                Integer.parseInt(values.getOrDefault("freeSlots", "40")),
+                Integer.parseInt(values.getOrDefault("conflicts", "10")),
+                Integer.parseInt(values.getOrDefault("employeeReads", "30")),
+                soak,
+                DurationStyle.detectAndParse(values.getOrDefault("sampleEvery", "60s")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+    }
+}
@@ -0,0 +1,262 @@
+package com.madeeasy.loadtest;
+
+import com.madeeasy.MeetingCalendarAssistantApplication;
+import com.madeeasy.loadtest.CalendarWorkloadGenerator.Operation;
+import com.madeeasy.loadtest.CalendarWorkloadGenerator.WorkloadRequest;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load and soak test against the REST API.
+ * <p>
+ * Without {@code baseUrl} the application is started in-process on a random port. The workload is
+ * seeded first, then {@code concurrency} clients fire the configured request mix for {@code duration}.
+ * With a {@code rate}, latencies are measured from the intended send time, so a stalled server is not
+ * hidden by clients that simply wait for it (coordinated omission). In soak mode the heap is sampled
+ * after a full GC every {@code sampleEvery} to spot growth, e.g. from ever-growing calendar slot
+ * collections. Note that the in-memory H2 database also lives on the heap and grows with every booking.
+ * <p>
+ * Arguments are {@code key=value} pairs, see {@link LoadTestOptions}, e.g.
+ * {@code employees=500 concurrency=64 duration=2m book=10 freeSlots=60 conflicts=10 employeeReads=20}.
+ * <p>
+ * Admission control stays on, since shedding under overload is part of what is measured; shed
+ * requests are reported per operation. The in-process instance only disables the per-caller rate
+ * limit, because all clients share one address. A {@code baseUrl} instance keeps its own settings,
+ * so its per-caller rate limit applies to the whole run, which comes from a single address: relax
+ * {@code app.admission.caller-rate-per-second} there, or set it to {@code 0}, unless that limit is
+ * what the run is meant to exercise. Seeding stays within the limits either way, see
+ * {@link CalendarWorkloadGenerator#seed()}.
+ */
+public final class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final CalendarWorkloadGenerator workload;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final boolean inProcess;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<long[]> heapSamples = new ArrayList<>();  // {elapsed millis, used bytes}
+
+    private LoadTestRunner(LoadTestOptions options, HttpClient client, String baseUrl, boolean inProcess) {
+        this.options = options;
+        this.client = client;
+        this.inProcess = inProcess;
+        this.workload = new CalendarWorkloadGenerator(client, baseUrl, options);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(MeetingCalendarAssistantApplication.class).run(
+                    "--server.port=0",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type=WARN",
+                    "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                    // All clients share one address; the concurrency lanes still apply
+                    "--app.admission.caller-rate-per-second=0");
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(clientExecutor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            new LoadTestRunner(options, client, baseUrl, context != null).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Seeding %d employees with %d meetings each over %d working days...%n",
+                options.employees(), options.meetingsPerEmployee(), options.days());
+        long seedStart = System.nanoTime();
+        CalendarWorkloadGenerator.SeedResult seeded = workload.seed();
+        System.out.printf("Seeded in %s, %d of %d meetings booked, %d conflicted, %d shed by admission control%n",
+                Duration.ofNanos(System.nanoTime() - seedStart),
+                seeded.booked(), options.employees() * options.meetingsPerEmployee(),
+                seeded.conflicted(), seeded.shed());
+
+        if (options.soak()) {
+            sampleHeap(0);
+        }
+
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + options.duration().toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                Random random = new Random(options.seed() * 31 + i);
+                clients.execute(() -> runClient(random, deadline));
+            }
+
+            Duration tick = options.soak() ? options.sampleEvery() : PROGRESS_INTERVAL;
+            long lastTotal = 0;
+            while (System.nanoTime() < deadline) {
+                TimeUnit.NANOSECONDS.sleep(Math.min(tick.toNanos(), Math.max(0, deadline - System.nanoTime())));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                long total = stats.values().stream().mapToLong(OperationStats::total).sum();
+                System.out.printf("[%6ds] %,10d requests, %,8.0f req/s%n",
+                        elapsedMillis / 1000, total, (total - lastTotal) * 1000.0 / tick.toMillis());
+                lastTotal = total;
+                if (options.soak()) {
+                    sampleHeap(elapsedMillis);
+                }
+            }
+        }
+
+        report(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private void runClient(Random random, long deadline) {
+        long intervalNanos = options.ratePerSecond() > 0
+                ? TimeUnit.SECONDS.toNanos(options.concurrency()) / options.ratePerSecond() : 0;
+        long intendedStart = System.nanoTime();
+
+        while (System.nanoTime() < deadline) {
+            if (intervalNanos > 0) {
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            WorkloadRequest next = workload.next(random);
+            OperationStats operationStats = stats.get(next.operation());
+            long start = intervalNanos > 0 ? intendedStart : System.nanoTime();
+            int status;
+            try {
+                status = client.send(next.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            operationStats.record(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS), status);
+            intendedStart += intervalNanos;
+        }
+    }
+
+    private void sampleHeap(long elapsedMillis) {
+        if (!inProcess) {
+            return;
+        }
+        System.gc();
+        long used = memory.getHeapMemoryUsage().getUsed();
+        heapSamples.add(new long[]{elapsedMillis, used});
+        System.out.printf("[%6ds] heap after GC: %,.1f MB%n", elapsedMillis / 1000, used / 1048576.0);
+    }
+
+    private void report(Duration elapsed) {
+        System.out.printf("%nResults after %s with %d clients%n", elapsed, options.concurrency());
+        System.out.printf("%-14s %10s %9s %8s %8s %8s %8s %9s %9s %8s %8s%n",
+                "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "conflict", "shed", "errors");
+        double seconds = elapsed.toMillis() / 1000.0;
+        stats.forEach((operation, operationStats) -> {
+            Histogram histogram = operationStats.recorder.getIntervalHistogram();
+            System.out.printf("%-14s %,10d %,9.0f %8.2f %8.2f %8.2f %8.2f %9.2f %8.2f%% %7.2f%% %7.2f%%%n",
+                    operation,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    percentage(operationStats.conflicts.sum(), operationStats.total()),
+                    percentage(operationStats.shed.sum(), operationStats.total()),
+                    percentage(operationStats.errors.sum(), operationStats.total()));
+        });
+
+        if (options.soak()) {
+            if (heapSamples.size() < 2) {
+                System.out.println("\nSoak: not enough heap samples" + (inProcess ? "" : " (heap sampling needs in-process mode)"));
+                return;
+            }
+            long booked = stats.get(Operation.BOOK).ok.sum();
+            long heapGrowth = heapSamples.get(heapSamples.size() - 1)[1] - heapSamples.get(0)[1];
+            System.out.printf("%nSoak: heap grew %,.1f MB (%,.1f MB/hour trend) with %,d bookings, %,.0f bytes per booking%n",
+                    heapGrowth / 1048576.0, heapTrendBytesPerHour() / 1048576.0, booked,
+                    booked == 0 ? 0.0 : (double) heapGrowth / booked);
+        }
+    }
+
+    /**
+     * Least-squares slope of the heap samples.
+     */
+    private double heapTrendBytesPerHour() {
+        double meanX = heapSamples.stream().mapToLong(sample -> sample[0]).average().orElse(0);
+        double meanY = heapSamples.stream().mapToLong(sample -> sample[1]).average().orElse(0);
+        double covariance = 0;
+        double variance = 0;
+        for (long[] sample : heapSamples) {
+            covariance += (sample[0] - meanX) * (sample[1] - meanY);
+            variance += (sample[0] - meanX) * (sample[0] - meanX);
+        }
+        return variance == 0 ? 0 : covariance / variance * TimeUnit.HOURS.toMillis(1);
+    }
+
+    private static double percentage(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+
+    private static final class OperationStats {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyMicros, int status) {
+            recorder.recordValue(latencyMicros);
+            if (status >= 200 && status < 300) {
+                ok.increment();
+            } else if (status == 409) {
+                conflicts.increment();
+            } else if (status == 429 || status == 503) {
+                shed.increment();
+            } else {
+                errors.increment();
+            }
+        }
+
+        long total() {
+            return ok.sum() + conflicts.sum() + shed.sum() + errors.sum();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.madeeasy.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityHeatmapTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 11, 4, 0, 0);
+
+    @Test
+    void busyCounts_CountsEachEmployeeOncePerBucket() {
+        BusyIntervals alice = BusyIntervals.builder()
+                .add(MONDAY.withHour(9), MONDAY.withHour(9).withMinute(10))
+                .add(MONDAY.withHour(9).withMinute(30), MONDAY.withHour(10).withMinute(30))
+                .build();
+        BusyIntervals bob = BusyIntervals.builder()
+                .add(MONDAY.withHour(10), MONDAY.withHour(11))
+                .build();
+
+        int[][] counts = AvailabilityHeatmap.busyCounts(List.of(alice, bob), EpochMinutes.floor(MONDAY), 1, 60);
+
+        assertEquals(24, counts[0].length);
+        assertEquals(0, counts[0][8]);
+        assertEquals(1, counts[0][9]);
+        assertEquals(2, counts[0][10]);
+        assertEquals(0, counts[0][11]);
+    }
+
+    @Test
+    void busyCounts_IntervalAcrossMidnight_CountedOnBothDaysOnly() {
+        BusyIntervals overnight = BusyIntervals.builder()
+                .add(MONDAY.withHour(22), MONDAY.plusDays(1).withHour(2))
+                .build();
+
+        int[][] counts = AvailabilityHeatmap.busyCounts(List.of(overnight), EpochMinutes.floor(MONDAY), 3, 240);
+
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 1}, counts[0]);
+        assertArrayEquals(new int[]{1, 0, 0, 0, 0, 0}, counts[1]);
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0}, counts[2]);
+    }
+
+    @Test
+    void busyCounts_ClippedToRange() {
+        BusyIntervals longMeeting = BusyIntervals.builder()
+                .add(MONDAY.minusDays(1), MONDAY.plusDays(5))
+                .build();
+
+        int[][] counts = AvailabilityHeatmap.busyCounts(List.of(longMeeting), EpochMinutes.floor(MONDAY), 2, 720);
+
+        assertArrayEquals(new int[]{1, 1}, counts[0]);
+        assertArrayEquals(new int[]{1, 1}, counts[1]);
+    }
+
+    @Test
+    void busyCounts_BucketNotDividingDay_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AvailabilityHeatmap.busyCounts(List.of(), EpochMinutes.floor(MONDAY), 1, 7));
+    }
+}
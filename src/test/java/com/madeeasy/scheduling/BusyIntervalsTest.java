@@ -0,0 +1,54 @@
+package com.madeeasy.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusyIntervalsTest {
+
+    @Test
+    void build_OverlappingAndAdjacentIntervals_MergesThem() {
+        BusyIntervals busy = BusyIntervals.builder()
+                .add(200, 260)
+                .add(100, 130)
+                .add(120, 150)
+                .add(150, 160)
+                .build();
+
+        assertEquals(2, busy.size());
+        assertEquals(100, busy.start(0));
+        assertEquals(160, busy.end(0));
+        assertEquals(200, busy.start(1));
+        assertEquals(260, busy.end(1));
+    }
+
+    @Test
+    void overlaps_TouchingRanges_DoNotOverlap() {
+        BusyIntervals busy = BusyIntervals.builder().add(100, 160).add(200, 260).build();
+
+        assertFalse(busy.overlaps(40, 100));
+        assertFalse(busy.overlaps(160, 200));
+        assertFalse(busy.overlaps(260, 300));
+        assertTrue(busy.overlaps(159, 200));
+        assertTrue(busy.overlaps(150, 210));
+        assertTrue(busy.overlaps(0, 1000));
+        assertTrue(busy.overlaps(210, 220));
+    }
+
+    @Test
+    void overlaps_Empty_NeverOverlaps() {
+        assertFalse(BusyIntervals.builder().build().overlaps(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void overlaps_LocalDateTime_UsesEpochMinutes() {
+        LocalDateTime nine = LocalDateTime.of(2024, 11, 4, 9, 0);
+        BusyIntervals busy = BusyIntervals.builder().add(nine, nine.plusMinutes(30)).build();
+
+        assertEquals(nine, EpochMinutes.toLocalDateTime(busy.start(0)));
+        assertTrue(busy.overlaps(nine.plusMinutes(29), nine.plusHours(1)));
+        assertFalse(busy.overlaps(nine.plusMinutes(30), nine.plusHours(1)));
+    }
+}
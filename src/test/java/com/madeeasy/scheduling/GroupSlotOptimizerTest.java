@@ -0,0 +1,118 @@
+package com.madeeasy.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupSlotOptimizerTest {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2024, 11, 4, 9, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2024, 11, 4, 12, 0);
+
+    @Test
+    void rank_RequiredAttendeeBusy_SkipsBlockedCandidates() {
+        // Required employee 1 is busy 9:00 - 10:00, so a 60 minute meeting can start at 10:00 at the earliest
+        List<BusySlot> busySlots = List.of(
+                new BusySlot(1L, WINDOW_START, WINDOW_START.plusHours(1)));
+
+        List<GroupSlotOptimizer.RankedSlot> ranked = GroupSlotOptimizer.rank(busySlots, Map.of(), Set.of(1L), Set.of(),
+                WINDOW_START, WINDOW_END, 60, 30, 10);
+
+        assertEquals(List.of(2, 3, 4), ranked.stream().map(GroupSlotOptimizer.RankedSlot::candidateIndex).toList());
+    }
+
+    @Test
+    void rank_OptionalAttendees_PrefersSlotsWithMostFreeOptionals() {
+        List<BusySlot> busySlots = List.of(
+                new BusySlot(2L, WINDOW_START, WINDOW_START.plusHours(1)),
+                new BusySlot(3L, WINDOW_START.plusHours(2), WINDOW_END));
+
+        List<GroupSlotOptimizer.RankedSlot> ranked = GroupSlotOptimizer.rank(busySlots, Map.of(), Set.of(1L), Set.of(2L, 3L),
+                WINDOW_START, WINDOW_END, 60, 60, 2);
+
+        assertEquals(2, ranked.size());
+        assertEquals(new GroupSlotOptimizer.RankedSlot(1, 2), ranked.get(0), "10:00 suits both optional attendees");
+        assertEquals(new GroupSlotOptimizer.RankedSlot(0, 1), ranked.get(1), "Ties are broken by the earlier start");
+    }
+
+    @Test
+    void rank_OverlappingSlotsOfSameEmployee_CountedOnce() {
+        List<BusySlot> busySlots = List.of(
+                new BusySlot(2L, WINDOW_START, WINDOW_START.plusMinutes(45)),
+                new BusySlot(2L, WINDOW_START.plusMinutes(30), WINDOW_START.plusHours(1)));
+
+        List<GroupSlotOptimizer.RankedSlot> ranked = GroupSlotOptimizer.rank(busySlots, Map.of(), Set.of(), Set.of(2L),
+                WINDOW_START, WINDOW_END, 60, 60, 3);
+
+        assertEquals(List.of(
+                new GroupSlotOptimizer.RankedSlot(1, 1),
+                new GroupSlotOptimizer.RankedSlot(2, 1),
+                new GroupSlotOptimizer.RankedSlot(0, 0)), ranked);
+    }
+
+    @Test
+    void rank_MultiDayWindow_ReturnsGlobalTopK() {
+        LocalDateTime windowEnd = WINDOW_START.plusDays(10);
+        // Optional employee 2 is busy for the whole window except on the last day
+        List<BusySlot> busySlots = List.of(
+                new BusySlot(2L, WINDOW_START, windowEnd.minusDays(1)));
+
+        List<GroupSlotOptimizer.RankedSlot> ranked = GroupSlotOptimizer.rank(busySlots, Map.of(), Set.of(1L), Set.of(2L),
+                WINDOW_START, windowEnd, 60, 60, 1);
+
+        assertEquals(List.of(new GroupSlotOptimizer.RankedSlot(9 * 24, 1)), ranked);
+    }
+
+    @Test
+    void rank_WindowShorterThanMeeting_ReturnsEmptyList() {
+        List<GroupSlotOptimizer.RankedSlot> ranked = GroupSlotOptimizer.rank(List.of(), Map.of(), Set.of(1L), Set.of(),
+                WINDOW_START, WINDOW_START.plusMinutes(30), 60, 15, 5);
+
+        assertTrue(ranked.isEmpty());
+    }
+
+    @Test
+    void rank_FiveHundredAttendeesOverAMonth_FindsCommonSlotInBoundedTime() {
+        // 100 required and 400 optional attendees with four meetings a day for 30 days
+        LocalDateTime windowEnd = WINDOW_START.plusDays(30);
+        LocalDateTime commonSlot = WINDOW_START.plusDays(20).plusHours(1);
+        Random random = new Random(42);
+        Set<Long> requiredIds = new HashSet<>();
+        Set<Long> optionalIds = new HashSet<>();
+        List<BusySlot> busySlots = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            (id <= 100 ? requiredIds : optionalIds).add(id);
+            for (int day = 0; day < 30; day++) {
+                for (int meeting = 0; meeting < 4; meeting++) {
+                    LocalDateTime start = WINDOW_START.plusDays(day).plusMinutes(15L * random.nextInt(32));
+                    LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(3)));
+                    if (start.isBefore(commonSlot.plusHours(1)) && end.isAfter(commonSlot)) {
+                        continue;
+                    }
+                    busySlots.add(new BusySlot(id, start, end));
+                }
+            }
+            // Required attendees are busy outside the meetings above except for the common slot
+            if (id <= 100) {
+                busySlots.add(new BusySlot(id, WINDOW_START, commonSlot));
+                busySlots.add(new BusySlot(id, commonSlot.plusHours(1), windowEnd));
+            }
+        }
+
+        List<GroupSlotOptimizer.RankedSlot> ranked = assertTimeout(Duration.ofSeconds(5),
+                () -> GroupSlotOptimizer.rank(busySlots, Map.of(), requiredIds, optionalIds,
+                        WINDOW_START, windowEnd, 60, 15, 10));
+
+        int commonIndex = (int) (Duration.between(WINDOW_START, commonSlot).toMinutes() / 15);
+        assertEquals(List.of(new GroupSlotOptimizer.RankedSlot(commonIndex, 400)), ranked);
+    }
+}
@@ -0,0 +1,85 @@
+package com.madeeasy.scheduling;
+
+import com.madeeasy.entity.Resource;
+import com.madeeasy.entity.ResourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceIntervalIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 11, 4, 9, 0);
+    private static final LocalDateTime TEN = NINE.plusHours(1);
+    private static final LocalDateTime ELEVEN = NINE.plusHours(2);
+
+    private ResourceIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ResourceIntervalIndex();
+        index.register(room(1L, 10));
+        index.register(room(2L, 4));
+        index.register(room(3L, 6));
+    }
+
+    @Test
+    void findFree_AdjacentBooking_RoomStillFree() {
+        index.addBooking(new ResourceBooking(2L, 100L, NINE, TEN));
+
+        assertEquals(List.of(2L), index.findFree(ResourceType.ROOM, 4, TEN, ELEVEN, 1));
+    }
+
+    @Test
+    void findFree_OverlappingBooking_RoomSkipped() {
+        index.addBooking(new ResourceBooking(2L, 100L, NINE, TEN));
+
+        assertEquals(List.of(3L), index.findFree(ResourceType.ROOM, 4, NINE.plusMinutes(30), ELEVEN, 1));
+    }
+
+    @Test
+    void findFree_BookingRemoved_RoomFreeAgain() {
+        ResourceBooking booking = new ResourceBooking(2L, 100L, NINE, TEN);
+        index.addBooking(booking);
+        index.removeBooking(booking);
+
+        assertEquals(List.of(2L), index.findFree(ResourceType.ROOM, 4, NINE, TEN, 1));
+    }
+
+    @Test
+    void findFree_BookingsWithSameStart_AllKept() {
+        // A zero-length meeting at 9:00 doesn't overlap the 9:00 - 10:00 meeting, so both are booked
+        ResourceBooking zeroLength = new ResourceBooking(2L, 101L, NINE, NINE);
+        index.addBooking(new ResourceBooking(2L, 100L, NINE, TEN));
+        index.addBooking(zeroLength);
+
+        assertEquals(List.of(3L), index.findFree(ResourceType.ROOM, 4, NINE.plusMinutes(30), ELEVEN, 1));
+
+        index.removeBooking(zeroLength);
+        assertEquals(List.of(3L), index.findFree(ResourceType.ROOM, 4, NINE.plusMinutes(30), ELEVEN, 1));
+        assertEquals(List.of(2L), index.findFree(ResourceType.ROOM, 4, TEN, ELEVEN, 1));
+    }
+
+    @Test
+    void findFree_SmallestSufficientCapacityFirst() {
+        index.addBooking(new ResourceBooking(3L, 100L, NINE, ELEVEN));
+
+        assertEquals(List.of(2L, 1L), index.findFree(ResourceType.ROOM, 1, TEN, ELEVEN, 5));
+        assertEquals(List.of(1L), index.findFree(ResourceType.ROOM, 5, TEN, ELEVEN, 5));
+        assertEquals(List.of(), index.findFree(ResourceType.EQUIPMENT, 1, TEN, ELEVEN, 5));
+    }
+
+    @Test
+    void register_CapacityChanged_MovesResource() {
+        index.register(room(2L, 12));
+
+        assertEquals(List.of(3L, 1L, 2L), index.findFree(ResourceType.ROOM, 5, NINE, TEN, 5));
+    }
+
+    private static Resource room(Long id, int capacity) {
+        return Resource.builder().id(id).name("Room " + id).type(ResourceType.ROOM).capacity(capacity).build();
+    }
+}
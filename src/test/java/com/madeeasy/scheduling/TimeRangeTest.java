@@ -0,0 +1,45 @@
+package com.madeeasy.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeRangeTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 11, 4, 9, 0);
+
+    @Test
+    void minus_DisjointRange_ReturnsWholeRange() {
+        TimeRange range = new TimeRange(NINE.plusHours(2), NINE.plusHours(3));
+
+        assertEquals(List.of(range), range.minus(new TimeRange(NINE, NINE.plusHours(1))));
+    }
+
+    @Test
+    void minus_ContainedRange_ReturnsNothing() {
+        TimeRange range = new TimeRange(NINE, NINE.plusMinutes(30));
+
+        assertTrue(range.minus(new TimeRange(NINE, NINE.plusHours(1))).isEmpty());
+    }
+
+    @Test
+    void minus_WiderRange_ReturnsBothEnds() {
+        TimeRange range = new TimeRange(NINE, NINE.plusHours(3));
+
+        assertEquals(List.of(
+                new TimeRange(NINE, NINE.plusHours(1)),
+                new TimeRange(NINE.plusHours(2), NINE.plusHours(3))
+        ), range.minus(new TimeRange(NINE.plusHours(1), NINE.plusHours(2))));
+    }
+
+    @Test
+    void minus_ShiftedRange_ReturnsAddedPart() {
+        TimeRange range = new TimeRange(NINE.plusMinutes(30), NINE.plusMinutes(90));
+
+        assertEquals(List.of(new TimeRange(NINE.plusHours(1), NINE.plusMinutes(90))),
+                range.minus(new TimeRange(NINE, NINE.plusHours(1))));
+    }
+}
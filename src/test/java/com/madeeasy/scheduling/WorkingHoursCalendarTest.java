@@ -0,0 +1,58 @@
+package com.madeeasy.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkingHoursCalendarTest {
+
+    private static final EnumSet<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    @Test
+    void offHours_AcrossDaylightSavingTransition_ShiftsWorkdayInUtc() {
+        // Berlin switches from UTC+1 to UTC+2 on Sunday 2024-03-31
+        LocalDateTime friday = LocalDateTime.of(2024, 3, 29, 0, 0);
+        BusyIntervals off = WorkingHoursCalendar.offHours(ZoneId.of("Europe/Berlin"),
+                LocalTime.of(9, 0), LocalTime.of(17, 0), WEEKDAYS,
+                EpochMinutes.floor(friday), EpochMinutes.floor(friday.plusDays(5)));
+
+        assertFalse(off.overlaps(friday.withHour(8), friday.withHour(16)));
+        assertTrue(off.overlaps(friday.withHour(15), friday.withHour(17)));
+        assertTrue(off.overlaps(friday.plusDays(1).withHour(12), friday.plusDays(1).withHour(13)));
+
+        LocalDateTime monday = friday.plusDays(3);
+        assertFalse(off.overlaps(monday.withHour(7), monday.withHour(15)));
+        assertTrue(off.overlaps(monday.withHour(6).withMinute(30), monday.withHour(7).withMinute(30)));
+    }
+
+    @Test
+    void offHours_OvernightWorkday_RunsPastMidnight() {
+        LocalDateTime day = LocalDateTime.of(2024, 11, 4, 0, 0);
+        BusyIntervals off = WorkingHoursCalendar.offHours(ZoneOffset.UTC,
+                LocalTime.of(22, 0), LocalTime.of(6, 0), EnumSet.allOf(DayOfWeek.class),
+                EpochMinutes.floor(day), EpochMinutes.floor(day.plusDays(2)));
+
+        assertFalse(off.overlaps(day.withHour(22), day.plusDays(1).withHour(6)));
+        assertTrue(off.overlaps(day.withHour(12), day.withHour(13)));
+    }
+
+    @Test
+    void offHours_ClippedToRange() {
+        LocalDateTime saturday = LocalDateTime.of(2024, 11, 2, 0, 0);
+        int from = EpochMinutes.floor(saturday);
+        int to = EpochMinutes.floor(saturday.plusDays(2));
+        BusyIntervals off = WorkingHoursCalendar.offHours(ZoneOffset.UTC,
+                LocalTime.of(9, 0), LocalTime.of(17, 0), WEEKDAYS, from, to);
+
+        assertEquals(1, off.size());
+        assertEquals(from, off.start(0));
+        assertEquals(to, off.end(0));
+    }
+}
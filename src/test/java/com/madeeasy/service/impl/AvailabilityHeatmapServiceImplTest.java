@@ -0,0 +1,101 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.response.AvailabilityHeatmapResponseDTO;
+import com.madeeasy.entity.CalendarChangeType;
+import com.madeeasy.event.CalendarChangedEvent;
+import com.madeeasy.repository.CalendarSlotRepository;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.scheduling.BusySlot;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityHeatmapServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 11, 4);
+
+    @Mock
+    private CalendarSlotRepository calendarSlotRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private AvailabilityHeatmapServiceImpl heatmapService;
+
+    @BeforeEach
+    void setUp() {
+        heatmapService = new AvailabilityHeatmapServiceImpl(calendarSlotRepository, employeeRepository, 10);
+    }
+
+    @Test
+    void getHeatmap_SameTeamTwice_ServedFromCache() {
+        stubTeam();
+
+        AvailabilityHeatmapResponseDTO first = heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60);
+        AvailabilityHeatmapResponseDTO second = heatmapService.getHeatmap(List.of(2L, 1L), DAY, DAY, 60);
+
+        assertEquals(1, first.getDays().get(0).getBusyCounts()[9]);
+        assertEquals(first, second);
+        verify(calendarSlotRepository, times(1)).findBusySlots(anyCollection(), any(), any());
+        verify(employeeRepository, times(1)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void getHeatmap_ResponseChangedByCaller_CachedHeatmapUnchanged() {
+        stubTeam();
+
+        heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60).getDays().get(0).getBusyCounts()[9] = 42;
+
+        assertEquals(1, heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60).getDays().get(0).getBusyCounts()[9]);
+    }
+
+    @Test
+    void getHeatmap_AfterChangeOfTeamMember_Rebuilt() {
+        stubTeam();
+
+        heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60);
+        heatmapService.onCalendarChanged(event(Map.of(3L, 1L)));
+        heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60);
+        verify(calendarSlotRepository, times(1)).findBusySlots(anyCollection(), any(), any());
+
+        heatmapService.onCalendarChanged(event(Map.of(2L, 1L)));
+        heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60);
+        verify(calendarSlotRepository, times(2)).findBusySlots(anyCollection(), any(), any());
+    }
+
+    @Test
+    void getHeatmap_UnknownEmployee_ThrowsEntityNotFoundException() {
+        when(employeeRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> heatmapService.getHeatmap(List.of(1L, 2L), DAY, DAY, 60));
+        assertTrue(exception.getMessage().contains("2"));
+        verifyNoInteractions(calendarSlotRepository);
+    }
+
+    private void stubTeam() {
+        when(employeeRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(calendarSlotRepository.findBusySlots(List.of(1L, 2L), DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(new BusySlot(2L, DAY.atTime(9, 0), DAY.atTime(9, 30))));
+    }
+
+    private static CalendarChangedEvent event(Map<Long, Long> sequenceByEmployeeId) {
+        LocalDateTime start = DAY.atTime(14, 0);
+        return new CalendarChangedEvent(10L, CalendarChangeType.CREATED, 1L, start, start.plusHours(1),
+                sequenceByEmployeeId);
+    }
+}
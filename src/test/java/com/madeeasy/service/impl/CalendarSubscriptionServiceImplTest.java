@@ -0,0 +1,145 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.entity.CalendarChangeType;
+import com.madeeasy.event.CalendarChangedEvent;
+import com.madeeasy.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class CalendarSubscriptionServiceImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 4, 9, 0);
+
+    private CountDownLatch sendGate;
+    private CalendarSubscriptionServiceImpl subscriptionService;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findExistingIds(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+        sendGate = new CountDownLatch(0);
+
+        subscriptionService = new CalendarSubscriptionServiceImpl(employeeRepository, 1, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter(sendGate);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendGate.countDown();
+        subscriptionService.shutdown();
+    }
+
+    @Test
+    void onCalendarChanged_FansOutToSubscribersOfEveryParticipant() throws Exception {
+        RecordingEmitter first = (RecordingEmitter) subscriptionService.subscribe(List.of(2L));
+        RecordingEmitter second = (RecordingEmitter) subscriptionService.subscribe(List.of(3L, 4L));
+        RecordingEmitter unrelated = (RecordingEmitter) subscriptionService.subscribe(List.of(5L));
+
+        subscriptionService.onCalendarChanged(event(Map.of(2L, 7L, 3L, 4L)));
+
+        assertTrue(first.next().contains("event:calendar-changed"));
+        assertTrue(second.next().contains("event:calendar-changed"));
+        assertNull(second.sent.poll(200, TimeUnit.MILLISECONDS), "one event per subscriber and change");
+        assertNull(unrelated.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onCalendarChanged_BufferFull_SendsResync() throws Exception {
+        sendGate = new CountDownLatch(1);
+        RecordingEmitter emitter = (RecordingEmitter) subscriptionService.subscribe(List.of(2L));
+
+        // The first event blocks in send, the second fills the buffer of one, the third overflows it
+        subscriptionService.onCalendarChanged(event(Map.of(2L, 1L)));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        subscriptionService.onCalendarChanged(event(Map.of(2L, 2L)));
+        subscriptionService.onCalendarChanged(event(Map.of(2L, 3L)));
+        sendGate.countDown();
+
+        assertTrue(emitter.next().contains("event:calendar-changed"));
+        assertTrue(emitter.next().contains("event:resync"));
+        assertNull(emitter.sent.poll(200, TimeUnit.MILLISECONDS), "buffered events are dropped on overflow");
+    }
+
+    @Test
+    void subscribe_EmitterCompleted_Unregisters() throws Exception {
+        RecordingEmitter emitter = (RecordingEmitter) subscriptionService.subscribe(List.of(2L));
+        assertEquals(1, subscriptionService.getSubscriptionCount());
+
+        emitter.completionCallback.run();
+        subscriptionService.onCalendarChanged(event(Map.of(2L, 1L)));
+
+        assertEquals(0, subscriptionService.getSubscriptionCount());
+        assertNull(emitter.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static CalendarChangedEvent event(Map<Long, Long> sequenceByEmployeeId) {
+        return new CalendarChangedEvent(10L, CalendarChangeType.CREATED, 1L, START, START.plusHours(1),
+                sequenceByEmployeeId);
+    }
+
+    /**
+     * Records what is sent instead of writing to a response; sends of calendar events wait for the gate.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch gate;
+        private Runnable completionCallback;
+
+        RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String text = builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining());
+            if (text.startsWith(":subscribed")) {
+                return;
+            }
+            sending.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(text);
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        String next() throws InterruptedException {
+            String text = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(text, "expected an event");
+            return text;
+        }
+    }
+}
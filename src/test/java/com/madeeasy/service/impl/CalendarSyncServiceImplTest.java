@@ -0,0 +1,159 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.response.CalendarSyncResponseDTO;
+import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.entity.CalendarChange;
+import com.madeeasy.entity.CalendarChangeType;
+import com.madeeasy.entity.CalendarSlot;
+import com.madeeasy.entity.Employee;
+import com.madeeasy.entity.Meeting;
+import com.madeeasy.repository.CalendarChangeRepository;
+import com.madeeasy.repository.CalendarSlotRepository;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.repository.MeetingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncServiceImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 4, 9, 0);
+
+    @InjectMocks
+    private CalendarSyncServiceImpl calendarSyncService;
+
+    @Mock
+    private CalendarChangeRepository calendarChangeRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private CalendarSlotRepository calendarSlotRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordChanges_Cancelled_WritesTombstonePerEmployee() {
+        when(employeeRepository.findCalendarSequences(Set.of(2L, 3L)))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 7L}, new Object[]{3L, 4L}));
+
+        Map<Long, Long> sequences = calendarSyncService.recordChanges(10L,
+                List.of(slot(100L, 2L), slot(101L, 3L)), CalendarChangeType.CANCELLED);
+
+        assertEquals(Map.of(2L, 7L, 3L, 4L), sequences);
+        verify(employeeRepository).incrementCalendarSequence(Set.of(2L, 3L));
+        ArgumentCaptor<List<CalendarChange>> saved = ArgumentCaptor.forClass(List.class);
+        verify(calendarChangeRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        CalendarChange tombstone = saved.getValue().get(0);
+        assertEquals(CalendarChangeType.CANCELLED, tombstone.getChangeType());
+        assertEquals(10L, tombstone.getMeetingId());
+        assertEquals(100L, tombstone.getCalendarSlotId());
+        assertEquals(7L, tombstone.getSequence());
+    }
+
+    @Test
+    void getChangesSince_WithToken_ReturnsOnlyNewerChanges() {
+        when(employeeRepository.existsById(2L)).thenReturn(true);
+        when(calendarChangeRepository.findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(2L, 5L, PageRequest.of(0, 101)))
+                .thenReturn(List.of(change(6L, 10L, CalendarChangeType.CREATED)));
+        when(meetingRepository.findAllWithParticipantsByIdIn(Set.of(10L))).thenReturn(List.of(meeting(10L)));
+
+        CalendarSyncResponseDTO response = calendarSyncService.getChangesSince(2L, 5L, 100);
+
+        assertEquals(6L, response.getSyncToken());
+        assertFalse(response.isHasMore());
+        assertEquals(List.of(10L), response.getMeetings().stream().map(MeetingResponseDTO::getId).toList());
+        assertTrue(response.getCancelledMeetingIds().isEmpty());
+    }
+
+    @Test
+    void getChangesSince_CancelledMeeting_ReturnsTombstone() {
+        when(employeeRepository.existsById(2L)).thenReturn(true);
+        when(calendarChangeRepository.findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(2L, 0L, PageRequest.of(0, 101)))
+                .thenReturn(List.of(change(1L, 10L, CalendarChangeType.CREATED), change(2L, 10L, CalendarChangeType.CANCELLED)));
+
+        CalendarSyncResponseDTO response = calendarSyncService.getChangesSince(2L, 0L, 100);
+
+        assertEquals(2L, response.getSyncToken());
+        assertTrue(response.getMeetings().isEmpty());
+        assertEquals(List.of(10L), response.getCancelledMeetingIds());
+        assertEquals(List.of(100L), response.getDeletedCalendarSlotIds());
+        verify(meetingRepository, never()).findAllWithParticipantsByIdIn(any());
+    }
+
+    @Test
+    void getChangesSince_Rescheduled_ReturnsLatestStateOnce() {
+        when(employeeRepository.existsById(2L)).thenReturn(true);
+        when(calendarChangeRepository.findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(2L, 0L, PageRequest.of(0, 101)))
+                .thenReturn(List.of(change(1L, 10L, CalendarChangeType.CREATED),
+                        change(2L, 10L, CalendarChangeType.UPDATED),
+                        change(3L, 10L, CalendarChangeType.UPDATED)));
+        when(meetingRepository.findAllWithParticipantsByIdIn(Set.of(10L))).thenReturn(List.of(meeting(10L)));
+
+        CalendarSyncResponseDTO response = calendarSyncService.getChangesSince(2L, 0L, 100);
+
+        assertEquals(3L, response.getSyncToken());
+        assertEquals(1, response.getMeetings().size());
+        assertTrue(response.getCancelledMeetingIds().isEmpty());
+    }
+
+    @Test
+    void getChangesSince_MoreThanLimit_SetsHasMore() {
+        when(employeeRepository.existsById(2L)).thenReturn(true);
+        when(calendarChangeRepository.findByEmployeeIdAndSequenceGreaterThanOrderBySequenceAsc(2L, 0L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(change(1L, 10L, CalendarChangeType.CANCELLED),
+                        change(2L, 11L, CalendarChangeType.CANCELLED),
+                        change(3L, 12L, CalendarChangeType.CANCELLED)));
+
+        CalendarSyncResponseDTO response = calendarSyncService.getChangesSince(2L, 0L, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(2L, response.getSyncToken());
+        assertEquals(List.of(10L, 11L), response.getCancelledMeetingIds());
+    }
+
+    private static CalendarSlot slot(Long id, Long employeeId) {
+        Employee employee = new Employee();
+        employee.setId(employeeId);
+        CalendarSlot slot = new CalendarSlot();
+        slot.setId(id);
+        slot.setEmployee(employee);
+        return slot;
+    }
+
+    private static CalendarChange change(long sequence, Long meetingId, CalendarChangeType changeType) {
+        return CalendarChange.builder()
+                .employeeId(2L)
+                .sequence(sequence)
+                .meetingId(meetingId)
+                .calendarSlotId(meetingId * 10)
+                .changeType(changeType)
+                .build();
+    }
+
+    private static Meeting meeting(Long id) {
+        Meeting meeting = new Meeting();
+        meeting.setId(id);
+        meeting.setStartTime(START);
+        meeting.setEndTime(START.plusHours(1));
+        meeting.setParticipants(List.of());
+        return meeting;
+    }
+}
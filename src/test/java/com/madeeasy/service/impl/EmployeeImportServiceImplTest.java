@@ -0,0 +1,158 @@
+package com.madeeasy.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madeeasy.dto.request.EmployeeImportFormat;
+import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.response.EmployeeImportResponseDTO;
+import com.madeeasy.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceImplTest {
+
+    @InjectMocks
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importEmployees_Csv_SkipsDuplicatesAndInvalidRows() throws Exception {
+        String csv = """
+                email,name
+                john.doe@example.com,John Doe
+                "alice@example.com","Johnson, Alice"
+                john.doe@example.com,John Again
+                not-an-email,Nobody
+
+                bob@example.com,Bob Brown
+                """;
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of("bob@example.com"));
+
+        EmployeeImportResponseDTO result = employeeImportService.importEmployees(stream(csv), EmployeeImportFormat.CSV);
+
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(List.of("line 5: missing or invalid email"), result.getErrors());
+
+        ArgumentCaptor<Collection<EmployeeRequestDTO>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserted.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(new EmployeeRequestDTO("John Doe", "john.doe@example.com"),
+                new EmployeeRequestDTO("Johnson, Alice", "alice@example.com")), List.copyOf(inserted.getValue()));
+    }
+
+    @Test
+    void importEmployees_Ndjson_ReportsMalformedLines() throws Exception {
+        String ndjson = """
+                {"name":"John Doe","email":"john.doe@example.com"}
+                {"name":"Broken"
+                """;
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        EmployeeImportResponseDTO result = employeeImportService.importEmployees(stream(ndjson), EmployeeImportFormat.NDJSON);
+
+        assertEquals(2, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getInvalid());
+        assertEquals(List.of("line 2: malformed line"), result.getErrors());
+    }
+
+    @Test
+    void importEmployees_EmailsDifferingInCase_CountedAsDuplicates() throws Exception {
+        String csv = """
+                name,email
+                Alice,Alice@Example.com
+                Alice Again,alice@example.com
+                """;
+        when(employeeRepository.findExistingEmails(List.of("alice@example.com"))).thenReturn(List.of());
+
+        EmployeeImportResponseDTO result = employeeImportService.importEmployees(stream(csv), EmployeeImportFormat.CSV);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getDuplicates());
+    }
+
+    @Test
+    void importEmployees_CsvWithoutEmailColumn_ThrowsIllegalArgumentException() {
+        String csv = """
+                name,phone
+                John Doe,555-0100
+                """;
+
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeImportService.importEmployees(stream(csv), EmployeeImportFormat.CSV));
+        verifyNoInteractions(employeeRepository, jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importEmployees_ConcurrentCreate_FallsBackToRowByRowInserts() throws Exception {
+        String ndjson = """
+                {"name":"John Doe","email":"john.doe@example.com"}
+                {"name":"Alice Johnson","email":"alice@example.com"}
+                {"name":"Bob Brown","email":"bob@example.com"}
+                """;
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        // Alice was created by another request after the existence check, so the batch hits the index
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("uk_employee_email"));
+        when(jdbcTemplate.update(anyString(), eq("John Doe"), eq("john.doe@example.com"))).thenReturn(1);
+        when(jdbcTemplate.update(anyString(), eq("Alice Johnson"), eq("alice@example.com")))
+                .thenThrow(new DuplicateKeyException("uk_employee_email"));
+        when(jdbcTemplate.update(anyString(), eq("Bob Brown"), eq("bob@example.com")))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        EmployeeImportResponseDTO result = employeeImportService.importEmployees(stream(ndjson), EmployeeImportFormat.NDJSON);
+
+        assertEquals(3, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(List.of("rejected by the database: bob@example.com"), result.getErrors());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
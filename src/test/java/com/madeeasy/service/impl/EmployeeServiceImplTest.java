@@ -0,0 +1,58 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.dto.request.EmployeeRequestDTO;
+import com.madeeasy.dto.response.EmployeeResponseDTO;
+import com.madeeasy.entity.Employee;
+import com.madeeasy.exception.ConflictException;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.service.WorkingHoursService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceImplTest {
+
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private WorkingHoursService workingHoursService;
+
+    @Test
+    void createEmployee_MixedCaseEmail_StoredInLowerCase() {
+        when(employeeRepository.existsByEmail("john.doe@example.com")).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setId(1L);
+            return employee;
+        });
+
+        EmployeeResponseDTO response = employeeService.createEmployee(
+                new EmployeeRequestDTO("John Doe", " John.Doe@Example.com "));
+
+        assertEquals(1L, response.getId());
+        assertEquals("john.doe@example.com", response.getEmail());
+    }
+
+    @Test
+    void createEmployee_ConcurrentCreateWithSameEmail_ThrowsConflictException() {
+        // Another request created the employee between the existence check and the insert
+        when(employeeRepository.existsByEmail("john.doe@example.com")).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_employee_email"));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> employeeService.createEmployee(new EmployeeRequestDTO("John Doe", "john.doe@example.com")));
+        assertTrue(exception.getMessage().contains("already exists"));
+    }
+}
@@ -1,28 +1,44 @@
 package com.madeeasy.service.impl;
 
 import com.madeeasy.dto.request.MeetingRequestDTO;
+import com.madeeasy.dto.request.RescheduleRequestDTO;
 import com.madeeasy.dto.response.CalendarSlotResponseDTO;
 import com.madeeasy.dto.response.MeetingResponseDTO;
+import com.madeeasy.entity.CalendarChangeType;
 import com.madeeasy.entity.CalendarSlot;
 import com.madeeasy.entity.Employee;
 import com.madeeasy.entity.Meeting;
+import com.madeeasy.entity.Resource;
+import com.madeeasy.entity.ResourceType;
+import com.madeeasy.exception.ConflictException;
 import com.madeeasy.exception.ResourceNotFoundException;
 import com.madeeasy.repository.CalendarSlotRepository;
 import com.madeeasy.repository.EmployeeRepository;
 import com.madeeasy.repository.MeetingRepository;
+import com.madeeasy.repository.ResourceRepository;
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.BusySlot;
+import com.madeeasy.scheduling.EpochMinutes;
+import com.madeeasy.service.CalendarSyncService;
 import com.madeeasy.service.EmployeeService;
+import com.madeeasy.service.WorkingHoursService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,13 +61,25 @@ class MeetingServiceImplTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    @Mock
+    private CalendarSyncService calendarSyncService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private WorkingHoursService workingHoursService;
+
     private MeetingRequestDTO meetingRequestDTO;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
 
     @BeforeEach
     void setUp() {
-        startTime = LocalDateTime.now().plusDays(1);
+        startTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
         endTime = startTime.plusHours(1);
 
         meetingRequestDTO = MeetingRequestDTO.builder()
@@ -88,7 +116,7 @@ class MeetingServiceImplTest {
 
         // Only stub the methods that are necessary
         lenient().when(employeeService.employeeExists(anyLong())).thenReturn(true);
-        when(employeeRepository.findAllById(anyList())).thenReturn(List.of(participant));
+        when(employeeRepository.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(participant));
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> meetingService.bookMeeting(meetingRequestDTO));
@@ -121,8 +149,8 @@ class MeetingServiceImplTest {
 
         // Mocking service methods
         when(employeeService.employeeExists(anyLong())).thenReturn(true); // Mock for employeeExists
-        when(employeeRepository.findAllById(anyList())).thenReturn(List.of(participant1, participant2)); // Mock findAllById
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(admin)); // Mock for finding admin by ID
+        when(employeeRepository.findAllByIdForUpdate(anyCollection()))
+                .thenReturn(List.of(admin, participant1, participant2)); // Mock locking the attendees
         when(calendarSlotRepository.existsByEmployeeAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(any(), any(), any())).thenReturn(false); // No conflicts
         when(meetingRepository.save(any(Meeting.class))).thenReturn(savedMeeting); // Mock saving the meeting
 
@@ -135,6 +163,71 @@ class MeetingServiceImplTest {
         assertEquals(savedMeeting.getTopic(), response.getTopic(), "Meeting topic should match");
     }
 
+    @Test
+    void bookMeeting_AdminListedAsParticipant_BookedOnce() {
+        Employee admin = new Employee();
+        admin.setId(1L);
+        Employee participant = new Employee();
+        participant.setId(2L);
+
+        Meeting savedMeeting = new Meeting();
+        savedMeeting.setId(1L);
+        savedMeeting.setStartTime(startTime);
+        savedMeeting.setEndTime(endTime);
+
+        meetingRequestDTO.setParticipantIds(List.of(1L, 2L));
+        when(employeeService.employeeExists(anyLong())).thenReturn(true);
+        when(employeeRepository.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(admin, participant));
+        when(calendarSlotRepository.existsByEmployeeAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(any(), any(), any()))
+                .thenReturn(false);
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(savedMeeting);
+
+        MeetingResponseDTO response = meetingService.bookMeeting(meetingRequestDTO);
+
+        assertEquals(2, response.getParticipants().size());
+        verify(calendarSlotRepository, times(2)).save(any(CalendarSlot.class));
+        verify(calendarSyncService).recordChanges(eq(1L), argThat(slots -> slots.size() == 2), eq(CalendarChangeType.CREATED));
+    }
+
+    @Test
+    void bookMeeting_ValidRequest_LocksAttendeesBeforeConflictCheck() {
+        stubValidParticipants();
+        Meeting savedMeeting = new Meeting();
+        savedMeeting.setId(1L);
+        when(meetingRepository.save(any(Meeting.class))).thenReturn(savedMeeting);
+
+        meetingService.bookMeeting(meetingRequestDTO);
+
+        InOrder inOrder = inOrder(employeeRepository, calendarSlotRepository);
+        inOrder.verify(employeeRepository).findAllByIdForUpdate(Set.of(1L, 2L, 3L));
+        inOrder.verify(calendarSlotRepository, times(3))
+                .existsByEmployeeAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(any(), any(), any());
+    }
+
+    @Test
+    void bookMeeting_RoomTooSmall_ThrowsConflictException() {
+        stubValidParticipants();
+        meetingRequestDTO.setResourceIds(List.of(5L));
+        when(resourceRepository.findAllByIdForUpdate(Set.of(5L))).thenReturn(List.of(room(5L, 2)));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> meetingService.bookMeeting(meetingRequestDTO));
+        assertTrue(exception.getMessage().contains("has capacity 2 but the meeting has 3 attendees"));
+        verify(meetingRepository, never()).save(any());
+    }
+
+    @Test
+    void bookMeeting_ResourceAlreadyBooked_ThrowsConflictException() {
+        stubValidParticipants();
+        meetingRequestDTO.setResourceIds(List.of(5L));
+        when(resourceRepository.findAllByIdForUpdate(Set.of(5L))).thenReturn(List.of(room(5L, 10)));
+        when(meetingRepository.findBookedResourceIds(Set.of(5L), startTime, endTime)).thenReturn(List.of(5L));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> meetingService.bookMeeting(meetingRequestDTO));
+        assertTrue(exception.getMessage().contains("[5] are already booked"));
+        verify(meetingRepository, never()).save(any());
+    }
 
     @Test
     void findConflictedParticipants_WithConflicts_ReturnsConflictedEmployees() {
@@ -172,7 +265,6 @@ class MeetingServiceImplTest {
 
         // No meetings scheduled for the employee, so the slot should be available
         when(calendarSlotRepository.findByEmployeeId(anyLong())).thenReturn(List.of(availableSlot));
-        when(meetingRepository.findByEmployeeId(anyLong())).thenReturn(List.of());
 
         List<CalendarSlotResponseDTO> availableSlots = meetingService.getAvailableSlots(
                 List.of(1L),
@@ -195,15 +287,127 @@ class MeetingServiceImplTest {
         slot.setStartTime(startTime);
         slot.setEndTime(endTime);
 
-        Meeting conflictingMeeting = new Meeting();
-        conflictingMeeting.setStartTime(startTime.minusMinutes(30));
-        conflictingMeeting.setEndTime(endTime.plusMinutes(30));
+        BusySlot conflictingMeeting = new BusySlot(2L, startTime.minusMinutes(30), endTime.plusMinutes(30));
+
+        when(calendarSlotRepository.findByEmployeeId(2L)).thenReturn(List.of(slot));
+        when(calendarSlotRepository.findBusySlots(List.of(2L), startTime, startTime.plusMinutes(60)))
+                .thenReturn(List.of(conflictingMeeting));
+
+        List<CalendarSlotResponseDTO> availableSlots = meetingService.getAvailableSlots(List.of(2L), startTime, 60);
+
+        assertTrue(availableSlots.isEmpty());
+    }
+
+    @Test
+    void getAvailableSlots_OutsideWorkingHours_ReturnsEmptyList() {
+        CalendarSlot slot = new CalendarSlot();
+        slot.setStartTime(startTime.plusDays(1));
+        slot.setEndTime(endTime.plusDays(1));
+
+        int requestedStart = EpochMinutes.floor(startTime);
+        BusyIntervals offHours = BusyIntervals.builder().add(requestedStart - 60, requestedStart + 30).build();
 
+        when(workingHoursService.getOffHours(List.of(2L), requestedStart, requestedStart + 60))
+                .thenReturn(Map.of(2L, offHours));
         when(calendarSlotRepository.findByEmployeeId(2L)).thenReturn(List.of(slot));
-        when(meetingRepository.findByEmployeeId(2L)).thenReturn(List.of(conflictingMeeting));
 
         List<CalendarSlotResponseDTO> availableSlots = meetingService.getAvailableSlots(List.of(2L), startTime, 60);
 
         assertTrue(availableSlots.isEmpty());
     }
+
+    @Test
+    void getAvailableSlots_SubMinuteTimes_RoundedToWholeMinutes() {
+        CalendarSlot slot = new CalendarSlot();
+        slot.setStartTime(startTime.minusHours(2));
+        slot.setEndTime(startTime.minusHours(1));
+        slot.setEmployee(Employee.builder().id(2L).build());
+
+        // Busy until 10:00:30, which blocks the whole minute 10:00 - 10:01
+        BusySlot meeting = new BusySlot(2L, startTime.minusHours(1), startTime.plusSeconds(30));
+        when(calendarSlotRepository.findByEmployeeId(2L)).thenReturn(List.of(slot));
+        when(calendarSlotRepository.findBusySlots(List.of(2L), startTime, startTime.plusMinutes(1)))
+                .thenReturn(List.of(meeting));
+        when(calendarSlotRepository.findBusySlots(List.of(2L), startTime.plusMinutes(1), startTime.plusMinutes(2)))
+                .thenReturn(List.of(meeting));
+
+        // A start at 10:00:45 is truncated to 10:00 and overlaps; a start at 10:01:15 becomes 10:01 and is free
+        assertTrue(meetingService.getAvailableSlots(List.of(2L), startTime.plusSeconds(45), 1).isEmpty());
+        assertEquals(1, meetingService.getAvailableSlots(List.of(2L), startTime.plusSeconds(75), 1).size());
+    }
+
+    @Test
+    void getAvailableSlots_StartOutsideSupportedRange_ThrowsIllegalArgumentException() {
+        LocalDateTime farFuture = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getAvailableSlots(List.of(2L), farFuture, 60));
+        verifyNoInteractions(calendarSlotRepository);
+    }
+
+    @Test
+    void cancelMeeting_MeetingNotFound_ThrowsResourceNotFoundException() {
+        when(meetingRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> meetingService.cancelMeeting(1L));
+        verify(calendarSlotRepository, never()).deleteByMeetingId(anyLong());
+    }
+
+    @Test
+    void rescheduleMeeting_ShorterRange_SkipsConflictCheck() {
+        Meeting meeting = meetingWithParticipant();
+        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+
+        MeetingResponseDTO response = meetingService.rescheduleMeeting(1L, RescheduleRequestDTO.builder()
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build());
+
+        verify(calendarSlotRepository, never()).findConflictingEmployeeIds(any(), any(), any(), any());
+        verify(calendarSlotRepository).updateTimesByMeetingId(1L, startTime, startTime.plusMinutes(30));
+        assertEquals(startTime.plusMinutes(30), response.getEndTime());
+    }
+
+    @Test
+    void rescheduleMeeting_ExtendedRange_ChecksOnlyAddedRange() {
+        Meeting meeting = meetingWithParticipant();
+        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+        when(calendarSlotRepository.findConflictingEmployeeIds(List.of(2L), endTime, endTime.plusHours(1), 1L))
+                .thenReturn(List.of(2L));
+
+        assertThrows(ConflictException.class, () -> meetingService.rescheduleMeeting(1L, RescheduleRequestDTO.builder()
+                .startTime(startTime)
+                .endTime(endTime.plusHours(1))
+                .build()));
+        verify(calendarSlotRepository, never()).updateTimesByMeetingId(anyLong(), any(), any());
+    }
+
+    private void stubValidParticipants() {
+        Employee admin = new Employee();
+        admin.setId(1L);
+        Employee participant1 = new Employee();
+        participant1.setId(2L);
+        Employee participant2 = new Employee();
+        participant2.setId(3L);
+
+        when(employeeService.employeeExists(anyLong())).thenReturn(true);
+        when(employeeRepository.findAllByIdForUpdate(anyCollection())).thenReturn(List.of(admin, participant1, participant2));
+        when(calendarSlotRepository.existsByEmployeeAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(any(), any(), any()))
+                .thenReturn(false);
+    }
+
+    private static Resource room(Long id, int capacity) {
+        return Resource.builder().id(id).name("Room " + id).type(ResourceType.ROOM).capacity(capacity).build();
+    }
+
+    private Meeting meetingWithParticipant() {
+        Employee participant = new Employee();
+        participant.setId(2L);
+
+        Meeting meeting = new Meeting();
+        meeting.setId(1L);
+        meeting.setStartTime(startTime);
+        meeting.setEndTime(endTime);
+        meeting.setParticipants(List.of(participant));
+        return meeting;
+    }
 }
@@ -0,0 +1,133 @@
+package com.madeeasy.service.impl;
+
+import com.madeeasy.entity.Employee;
+import com.madeeasy.entity.WorkingHours;
+import com.madeeasy.repository.EmployeeRepository;
+import com.madeeasy.scheduling.BusyIntervals;
+import com.madeeasy.scheduling.EpochMinutes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkingHoursServiceImplTest {
+
+    private EmployeeRepository employeeRepository;
+    private WorkingHoursServiceImpl workingHoursService;
+    private int today;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Employee> employees = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                employees.add(employee(id));
+            }
+            return employees;
+        });
+        workingHoursService = new WorkingHoursServiceImpl(employeeRepository, mock(PlatformTransactionManager.class),
+                Duration.ofDays(92), 2);
+        today = EpochMinutes.floor(LocalDate.now(ZoneOffset.UTC).atStartOfDay());
+    }
+
+    @Test
+    void getOffHours_FarOutsideHorizon_KeepsCachedHorizon() {
+        int farAway = today + (int) Duration.ofDays(3 * 365).toMinutes();
+
+        assertTrue(workingHoursService.getOffHours(List.of(1L), today, today + 60).containsKey(1L));
+        assertTrue(workingHoursService.getOffHours(List.of(1L), farAway, farAway + 60).containsKey(1L));
+        workingHoursService.getOffHours(List.of(1L), today + 60, today + 120);
+
+        // The far query is computed on its own; the near-term queries share one cached entry
+        verify(employeeRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void getOffHours_CacheFull_EvictsAnEntry() {
+        workingHoursService.getOffHours(List.of(1L, 2L), today, today + 60);
+        workingHoursService.getOffHours(List.of(3L), today, today + 60);
+        workingHoursService.getOffHours(List.of(1L, 2L, 3L), today, today + 60);
+
+        // Only two employees fit, so one of them is loaded again
+        verify(employeeRepository, times(3)).findAllById(anyIterable());
+    }
+
+    @Test
+    void getOffHours_LoadRacingAnUpdate_DoesNotCacheOldHours() throws Exception {
+        // The load reads the old working hours, then the update commits and evicts before it is cached
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(employeeRepository.findAllById(anyIterable()))
+                .thenAnswer(invocation -> {
+                    loaded.countDown();
+                    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+                    return List.of(employee(1L));
+                })
+                .thenReturn(List.of(Employee.builder().id(1L).build()));
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Map<Long, BusyIntervals>> racingRead =
+                    executor.submit(() -> workingHoursService.getOffHours(List.of(1L), today, today + 60));
+            assertTrue(loaded.await(5, TimeUnit.SECONDS));
+            workingHoursService.evict(1L);
+            evicted.countDown();
+            assertTrue(racingRead.get(5, TimeUnit.SECONDS).containsKey(1L));
+        }
+
+        // The working hours were cleared by the update, so the employee is always available now
+        assertFalse(workingHoursService.getOffHours(List.of(1L), today, today + 60).containsKey(1L));
+        verify(employeeRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    void evict_InsideTransaction_TakesEffectAfterCommit() {
+        workingHoursService.getOffHours(List.of(1L), today, today + 60);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            workingHoursService.evict(1L);
+            // Not committed yet, so the cached entry is still used
+            workingHoursService.getOffHours(List.of(1L), today, today + 60);
+            verify(employeeRepository, times(1)).findAllById(anyIterable());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        workingHoursService.getOffHours(List.of(1L), today, today + 60);
+        verify(employeeRepository, times(2)).findAllById(anyIterable());
+    }
+
+    private static Employee employee(Long id) {
+        return Employee.builder()
+                .id(id)
+                .workingHours(WorkingHours.builder()
+                        .timeZone("Europe/Berlin")
+                        .workdayStart(LocalTime.of(9, 0))
+                        .workdayEnd(LocalTime.of(17, 0))
+                        .workingDays(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                        .build())
+                .build();
+    }
+}